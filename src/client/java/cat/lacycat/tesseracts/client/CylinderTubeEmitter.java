@@ -0,0 +1,616 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.client.mixin.BufferBuilderAccessor;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * 테서랙트 모서리를 원기둥(튜브)으로 출력하는 헬퍼.
+ * 단위 원의 sin/cos 테이블과 스크래치 버퍼를 미리 만들어 두므로 모서리를 그릴 때 객체를 할당하지 않습니다.
+ * QUADS 레이어에 맞게 세그먼트마다 사각형 하나(정점 4개)를 출력하며, 링 정점은 이웃 세그먼트끼리 공유해서 한 번만 변환합니다.
+ * 출력 형식은 TesseractRenderLayers.WIREFRAME의 위치 + 색상입니다.
+ * 대상이 같은 형식으로 빌드 중인 BufferBuilder이면 메서드 체인을 거치지 않고 바이트 버퍼에 정점을 바로 씁니다.
+ * 스크래치 상태를 공유하므로 렌더러 하나당 인스턴스 하나를 사용해야 합니다 (스레드 안전하지 않음).
+ */
+public class CylinderTubeEmitter {
+
+    // POSITION_COLOR 정점 크기 (float 3개 + RGBA 바이트 4개)
+    static final int VERTEX_SIZE = 16;
+    // 정점 하나의 int 수 (emitTranslated()용)
+    static final int VERTEX_INTS = VERTEX_SIZE / 4;
+    private static final boolean LITTLE_ENDIAN = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+    // 디버그 검증에서 꼭짓점 좌표의 허용 범위
+    private static final float VERTEX_LIMIT = 100.0f;
+    // 뒤에서 앞으로 정렬할 때의 깊이 버킷 수 (모서리 32개에 충분)
+    private static final int DEPTH_BUCKETS = 16;
+
+    private final int segments;
+    private final float radius;
+
+    // 단위 원 테이블 (세그먼트 i의 각도 = 2π * i / segments)
+    private final float[] cosTable;
+    private final float[] sinTable;
+
+    // 재사용 스크래치 - 변환 전 링 데이터 (시작 링, 끝 링 순서)
+    private final float[] localRings;
+
+    // 재사용 스크래치 - 변환된 링 위의 점들 (x, y, z 반복)
+    private final float[] startRing;
+    private final float[] endRing;
+
+    // 모서리 프레임 (방향, 오른쪽, 위쪽)
+    private float dirX, dirY, dirZ;
+    private float rightX, rightY, rightZ;
+    private float upX, upY, upZ;
+
+    // 매트릭스 변환 결과용 스크래치
+    private final Vector3f transformedPos = new Vector3f();
+
+    // 일괄 출력용 스크래치 - 뷰 공간 꼭짓점 (x, y, z 반복)과 링 둘레 오프셋
+    private float[] viewVertices = new float[0];
+    private boolean[] validVertices = new boolean[0];
+    private final float[] ringOffsets;
+
+    // 깊이 정렬용 스크래치 - 모서리별 깊이와 버킷, 정렬된 모서리 순서
+    private float[] edgeDepths = new float[0];
+    private int[] edgeBuckets = new int[0];
+    private int[] edgeOrder = new int[0];
+    private final int[] bucketStarts = new int[DEPTH_BUCKETS + 1];
+
+    // 평행이동 출력용 스크래치 (정점마다 int 4개)
+    private int[] translatedVertices = new int[0];
+
+    // 정점 쓰기 상태 - 바이트 버퍼에 직접 쓰는 중이면 directBuffer가 null이 아님 (BufferBuilder면 directTarget도)
+    private BufferBuilderAccessor directTarget;
+    private ByteBuffer directBuffer;
+    private int directOffset;
+    private int directVertices;
+    private int packedColor;
+    private float colorR, colorG, colorB, colorA;
+
+    public CylinderTubeEmitter(int segments, float radius) {
+        this.segments = segments;
+        this.radius = radius;
+        this.cosTable = new float[segments];
+        this.sinTable = new float[segments];
+        this.localRings = new float[segments * 6];
+        this.startRing = new float[segments * 3];
+        this.endRing = new float[segments * 3];
+        this.ringOffsets = new float[segments * 3];
+
+        for (int i = 0; i < segments; i++) {
+            double angle = 2 * Math.PI * i / segments;
+            cosTable[i] = (float) Math.cos(angle);
+            sinTable[i] = (float) Math.sin(angle);
+        }
+    }
+
+    public int getSegments() {
+        return segments;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * 한 모서리당 출력되는 정점 수 (세그먼트마다 사각형 하나).
+     */
+    public int getVerticesPerEdge() {
+        return segments * 4;
+    }
+
+    /**
+     * 한 모서리의 링 데이터 크기 (시작 링, 끝 링 각각 세그먼트 * 3).
+     */
+    public int getRingDataSize() {
+        return segments * 6;
+    }
+
+    /**
+     * start에서 end까지 원기둥 하나를 QUADS로 출력합니다.
+     */
+    public void emitEdge(VertexConsumer vertexConsumer, Matrix4f positionMatrix,
+                         Vector3f start, Vector3f end, float r, float g, float b, float alpha) {
+        if (!computeEdgeRings(start, end, localRings, 0)) return; // 너무 짧은 모서리는 무시
+
+        emitEdgeRings(vertexConsumer, positionMatrix, localRings, 0, r, g, b, alpha);
+    }
+
+    /**
+     * 여러 모서리를 한 번에 QUADS로 출력합니다.
+     * 꼭짓점은 모서리마다가 아니라 한 번씩만 뷰 공간으로 변환하고, 각 모서리의 둘레 벡터 두 개만 회전시켜
+     * 링 정점을 뷰 공간에서 바로 만듭니다 (아핀 변환이므로 M(p + n) = Mp + M₃n).
+     * 너무 짧은 모서리는 건너뜁니다. 꼭짓점 검사 (유한성, 좌표 범위) 는 디버그 검증 모드에서만 하고,
+     * 유효하지 않은 꼭짓점에 닿는 모서리를 건너뜁니다.
+     *
+     * @param edgeColors 모서리마다 r, g, b
+     */
+    public void emitEdges(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Vector3f[] vertices,
+                          int[][] edges, float[] edgeColors, float alpha) {
+        beginWrite(vertexConsumer, edges.length * getVerticesPerEdge());
+        try {
+            putEdges(vertexConsumer, positionMatrix, vertices, edges, edgeColors, alpha, null);
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * emitEdges()와 같지만 모서리마다 다른 알파로, 뷰 공간 깊이의 뒤에서 앞 순서로 출력합니다 (반투명 레이어용).
+     * 모서리 중점 깊이를 버킷 정렬하므로 블록마다 모서리 수에 비례하는 비용만 듭니다.
+     *
+     * @param edgeAlphas 모서리마다 알파
+     */
+    public void emitEdgesBackToFront(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Vector3f[] vertices,
+                                     int[][] edges, float[] edgeColors, float[] edgeAlphas) {
+        beginWrite(vertexConsumer, edges.length * getVerticesPerEdge());
+        try {
+            putEdges(vertexConsumer, positionMatrix, vertices, edges, edgeColors, 1f, edgeAlphas);
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * emitEdges()와 같은 정점들을 dest의 처음부터 WIREFRAME 형식 그대로 씁니다 (작업 스레드의 미리 계산용).
+     * dest는 네이티브 바이트 순서이고 모서리 수 * getVerticesPerEdge() * VERTEX_SIZE 바이트 이상이어야 합니다.
+     *
+     * @return 쓴 정점 수
+     */
+    public int writeEdges(ByteBuffer dest, Matrix4f positionMatrix, Vector3f[] vertices,
+                          int[][] edges, float[] edgeColors, float alpha) {
+        beginBufferWrite(dest);
+        try {
+            putEdges(null, positionMatrix, vertices, edges, edgeColors, alpha, null);
+            return directVertices;
+        } finally {
+            endWrite();
+        }
+    }
+
+    // edgeAlphas가 null이 아니면 모서리별 알파를 쓰고 뒤에서 앞 순서로 출력
+    private void putEdges(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Vector3f[] vertices,
+                          int[][] edges, float[] edgeColors, float alpha, float[] edgeAlphas) {
+        int vertexCount = vertices.length;
+        if (viewVertices.length < vertexCount * 3) {
+            viewVertices = new float[vertexCount * 3];
+            validVertices = new boolean[vertexCount];
+        }
+
+        // 투영기가 보장하는 범위이므로 릴리스 모드에서는 검사하지 않음
+        boolean validate = TesseractDebugValidation.isEnabled();
+        for (int i = 0; i < vertexCount; i++) {
+            Vector3f vertex = vertices[i];
+            if (validate) {
+                validVertices[i] = TesseractDebugValidation.isVectorValid(vertex, VERTEX_LIMIT);
+                if (!validVertices[i]) {
+                    TesseractDebugValidation.reportInvalid("CylinderTubeEmitter", "vertex " + i + " = " + vertex);
+                    continue;
+                }
+            }
+
+            positionMatrix.transformPosition(vertex.x, vertex.y, vertex.z, transformedPos);
+            viewVertices[i * 3] = transformedPos.x;
+            viewVertices[i * 3 + 1] = transformedPos.y;
+            viewVertices[i * 3 + 2] = transformedPos.z;
+        }
+
+        // 둘레 벡터에는 이동 없이 회전/크기 부분만 적용
+        float m00 = positionMatrix.m00(), m01 = positionMatrix.m01(), m02 = positionMatrix.m02();
+        float m10 = positionMatrix.m10(), m11 = positionMatrix.m11(), m12 = positionMatrix.m12();
+        float m20 = positionMatrix.m20(), m21 = positionMatrix.m21(), m22 = positionMatrix.m22();
+
+        boolean sorted = edgeAlphas != null;
+        if (sorted) {
+            sortEdgesBackToFront(edges);
+        }
+
+        for (int n = 0; n < edges.length; n++) {
+            int edgeIndex = sorted ? edgeOrder[n] : n;
+            int startIndex = edges[edgeIndex][0];
+            int endIndex = edges[edgeIndex][1];
+            if (validate && (!validVertices[startIndex] || !validVertices[endIndex])) continue;
+            if (!computeFrame(vertices[startIndex], vertices[endIndex])) continue; // 너무 짧은 모서리는 무시
+
+            float rx = rightX * radius, ry = rightY * radius, rz = rightZ * radius;
+            float ux = upX * radius, uy = upY * radius, uz = upZ * radius;
+            float viewRightX = m00 * rx + m10 * ry + m20 * rz;
+            float viewRightY = m01 * rx + m11 * ry + m21 * rz;
+            float viewRightZ = m02 * rx + m12 * ry + m22 * rz;
+            float viewUpX = m00 * ux + m10 * uy + m20 * uz;
+            float viewUpY = m01 * ux + m11 * uy + m21 * uz;
+            float viewUpZ = m02 * ux + m12 * uy + m22 * uz;
+
+            for (int i = 0; i < segments; i++) {
+                int idx = i * 3;
+                ringOffsets[idx] = viewRightX * cosTable[i] + viewUpX * sinTable[i];
+                ringOffsets[idx + 1] = viewRightY * cosTable[i] + viewUpY * sinTable[i];
+                ringOffsets[idx + 2] = viewRightZ * cosTable[i] + viewUpZ * sinTable[i];
+            }
+
+            int colorIndex = edgeIndex * 3;
+            setColor(edgeColors[colorIndex], edgeColors[colorIndex + 1], edgeColors[colorIndex + 2],
+                    sorted ? edgeAlphas[edgeIndex] : alpha);
+
+            float sx = viewVertices[startIndex * 3];
+            float sy = viewVertices[startIndex * 3 + 1];
+            float sz = viewVertices[startIndex * 3 + 2];
+            float ex = viewVertices[endIndex * 3];
+            float ey = viewVertices[endIndex * 3 + 1];
+            float ez = viewVertices[endIndex * 3 + 2];
+
+            // emitEdgeRings()와 같은 순서: start_i, end_i, end_next, start_next
+            for (int i = 0; i < segments; i++) {
+                int idx = i * 3;
+                int nextIdx = i + 1 == segments ? 0 : idx + 3;
+                putVertex(vertexConsumer, sx + ringOffsets[idx], sy + ringOffsets[idx + 1], sz + ringOffsets[idx + 2]);
+                putVertex(vertexConsumer, ex + ringOffsets[idx], ey + ringOffsets[idx + 1], ez + ringOffsets[idx + 2]);
+                putVertex(vertexConsumer, ex + ringOffsets[nextIdx], ey + ringOffsets[nextIdx + 1], ez + ringOffsets[nextIdx + 2]);
+                putVertex(vertexConsumer, sx + ringOffsets[nextIdx], sy + ringOffsets[nextIdx + 1], sz + ringOffsets[nextIdx + 2]);
+            }
+        }
+    }
+
+    // viewVertices로 모서리 중점의 뷰 공간 깊이를 구해서 edgeOrder를 먼 것부터 채움 (안정적인 계수 정렬)
+    private void sortEdgesBackToFront(int[][] edges) {
+        int edgeCount = edges.length;
+        if (edgeOrder.length < edgeCount) {
+            edgeDepths = new float[edgeCount];
+            edgeBuckets = new int[edgeCount];
+            edgeOrder = new int[edgeCount];
+        }
+
+        // 뷰 공간은 -Z 방향을 보므로 z가 작을수록 멂 (두 끝점 z의 합으로 비교)
+        float minDepth = Float.POSITIVE_INFINITY;
+        float maxDepth = Float.NEGATIVE_INFINITY;
+        for (int edgeIndex = 0; edgeIndex < edgeCount; edgeIndex++) {
+            float depth = viewVertices[edges[edgeIndex][0] * 3 + 2] + viewVertices[edges[edgeIndex][1] * 3 + 2];
+            edgeDepths[edgeIndex] = depth;
+            minDepth = Math.min(minDepth, depth);
+            maxDepth = Math.max(maxDepth, depth);
+        }
+
+        float range = maxDepth - minDepth;
+        float bucketScale = range > 0.0f ? DEPTH_BUCKETS / range : 0.0f;
+        Arrays.fill(bucketStarts, 0);
+        for (int edgeIndex = 0; edgeIndex < edgeCount; edgeIndex++) {
+            int bucket = (int) ((edgeDepths[edgeIndex] - minDepth) * bucketScale);
+            bucket = Math.max(0, Math.min(DEPTH_BUCKETS - 1, bucket));
+            edgeBuckets[edgeIndex] = bucket;
+            bucketStarts[bucket + 1]++;
+        }
+        for (int bucket = 0; bucket < DEPTH_BUCKETS; bucket++) {
+            bucketStarts[bucket + 1] += bucketStarts[bucket];
+        }
+        for (int edgeIndex = 0; edgeIndex < edgeCount; edgeIndex++) {
+            edgeOrder[bucketStarts[edgeBuckets[edgeIndex]]++] = edgeIndex;
+        }
+    }
+
+    /**
+     * start에서 end까지 원기둥의 링 정점을 변환 없이 dest[offset..]에 씁니다 (키프레임 미리 계산용).
+     * 모서리가 너무 짧으면 링을 중심선으로 접어서 쓰고 false를 돌려줍니다.
+     */
+    public boolean computeEdgeRings(Vector3f start, Vector3f end, float[] dest, int offset) {
+        int endOffset = offset + segments * 3;
+
+        if (!computeFrame(start, end)) {
+            for (int i = 0; i < segments; i++) {
+                int idx = i * 3;
+                dest[offset + idx] = start.x;
+                dest[offset + idx + 1] = start.y;
+                dest[offset + idx + 2] = start.z;
+                dest[endOffset + idx] = end.x;
+                dest[endOffset + idx + 1] = end.y;
+                dest[endOffset + idx + 2] = end.z;
+            }
+            return false;
+        }
+
+        for (int i = 0; i < segments; i++) {
+            // 링 둘레 방향 (바깥쪽)
+            float nx = rightX * cosTable[i] + upX * sinTable[i];
+            float ny = rightY * cosTable[i] + upY * sinTable[i];
+            float nz = rightZ * cosTable[i] + upZ * sinTable[i];
+
+            int idx = i * 3;
+            dest[offset + idx] = start.x + nx * radius;
+            dest[offset + idx + 1] = start.y + ny * radius;
+            dest[offset + idx + 2] = start.z + nz * radius;
+            dest[endOffset + idx] = end.x + nx * radius;
+            dest[endOffset + idx + 1] = end.y + ny * radius;
+            dest[endOffset + idx + 2] = end.z + nz * radius;
+        }
+        return true;
+    }
+
+    /**
+     * computeEdgeRings()로 만든 링 데이터로 원기둥 하나를 QUADS로 출력합니다.
+     */
+    public void emitEdgeRings(VertexConsumer vertexConsumer, Matrix4f positionMatrix,
+                              float[] rings, int offset, float r, float g, float b, float alpha) {
+        beginWrite(vertexConsumer, getVerticesPerEdge());
+        try {
+            setColor(r, g, b, alpha);
+            putEdgeRings(vertexConsumer, positionMatrix, rings, offset);
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * 모서리 edgeCount개의 링 데이터를 모서리별 색상으로 한 번에 QUADS로 출력합니다.
+     *
+     * @param edgeColors 모서리마다 r, g, b
+     */
+    public void emitEdgeRings(VertexConsumer vertexConsumer, Matrix4f positionMatrix, float[] rings, int edgeCount,
+                              float[] edgeColors, float alpha) {
+        beginWrite(vertexConsumer, edgeCount * getVerticesPerEdge());
+        try {
+            int ringDataSize = getRingDataSize();
+            for (int edgeIndex = 0; edgeIndex < edgeCount; edgeIndex++) {
+                int colorIndex = edgeIndex * 3;
+                setColor(edgeColors[colorIndex], edgeColors[colorIndex + 1], edgeColors[colorIndex + 2], alpha);
+                putEdgeRings(vertexConsumer, positionMatrix, rings, edgeIndex * ringDataSize);
+            }
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * 모서리 edgeCount개의 링 데이터를 dest의 처음부터 WIREFRAME 형식 그대로 씁니다 (writeEdges() 참고).
+     *
+     * @return 쓴 정점 수
+     */
+    public int writeEdgeRings(ByteBuffer dest, Matrix4f positionMatrix, float[] rings, int edgeCount,
+                              float[] edgeColors, float alpha) {
+        beginBufferWrite(dest);
+        try {
+            int ringDataSize = getRingDataSize();
+            for (int edgeIndex = 0; edgeIndex < edgeCount; edgeIndex++) {
+                int colorIndex = edgeIndex * 3;
+                setColor(edgeColors[colorIndex], edgeColors[colorIndex + 1], edgeColors[colorIndex + 2], alpha);
+                putEdgeRings(null, positionMatrix, rings, edgeIndex * ringDataSize);
+            }
+            return directVertices;
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * writeEdges()/writeEdgeRings()로 미리 만든 정점 vertexCount개를 그대로 출력합니다.
+     * 대상이 BufferBuilder이면 바이트 복사 한 번으로 끝납니다.
+     */
+    public void emitPrecomputed(VertexConsumer vertexConsumer, ByteBuffer data, int vertexCount) {
+        beginWrite(vertexConsumer, vertexCount);
+        try {
+            if (directBuffer != null) {
+                int length = vertexCount * VERTEX_SIZE;
+                directBuffer.put(directOffset, data, 0, length);
+                directOffset += length;
+                directVertices += vertexCount;
+                return;
+            }
+
+            for (int i = 0; i < vertexCount; i++) {
+                int offset = i * VERTEX_SIZE;
+                vertexConsumer.vertex(data.getFloat(offset), data.getFloat(offset + 4), data.getFloat(offset + 8))
+                        .color(data.get(offset + 12) & 0xFF, data.get(offset + 13) & 0xFF,
+                                data.get(offset + 14) & 0xFF, data.get(offset + 15) & 0xFF)
+                        .next();
+            }
+        } finally {
+            endWrite();
+        }
+    }
+
+    /**
+     * writeEdges()/writeEdgeRings()로 만든 정점 vertexCount개를 int 배열로 옮겨 dest[0..]에 씁니다 (emitTranslated()용).
+     */
+    public static void copyVertexInts(ByteBuffer data, int vertexCount, int[] dest) {
+        data.asIntBuffer().get(0, dest, 0, vertexCount * VERTEX_INTS);
+    }
+
+    /**
+     * copyVertexInts()로 옮긴 정점 vertexCount개를 위치만 (offsetX, offsetY, offsetZ)만큼 옮겨서 출력합니다.
+     * 회전 부분이 같은 매트릭스로 만든 정점을 다른 블록 위치에 다시 쓸 때 사용합니다 (클러스터 렌더링).
+     * 대상이 BufferBuilder이면 스크래치 배열에서 옮긴 뒤 한 번에 복사합니다.
+     */
+    public void emitTranslated(VertexConsumer vertexConsumer, int[] vertices, int vertexCount,
+                               float offsetX, float offsetY, float offsetZ) {
+        beginWrite(vertexConsumer, vertexCount);
+        try {
+            int length = vertexCount * VERTEX_INTS;
+            if (directBuffer == null) {
+                for (int i = 0; i < length; i += VERTEX_INTS) {
+                    int color = vertices[i + 3];
+                    vertexConsumer.vertex(Float.intBitsToFloat(vertices[i]) + offsetX,
+                                    Float.intBitsToFloat(vertices[i + 1]) + offsetY,
+                                    Float.intBitsToFloat(vertices[i + 2]) + offsetZ)
+                            .color(getColorByte(color, 0), getColorByte(color, 1),
+                                    getColorByte(color, 2), getColorByte(color, 3))
+                            .next();
+                }
+                return;
+            }
+
+            if (translatedVertices.length < length) {
+                translatedVertices = new int[length];
+            }
+            int[] translated = translatedVertices;
+            for (int i = 0; i < length; i += VERTEX_INTS) {
+                translated[i] = Float.floatToRawIntBits(Float.intBitsToFloat(vertices[i]) + offsetX);
+                translated[i + 1] = Float.floatToRawIntBits(Float.intBitsToFloat(vertices[i + 1]) + offsetY);
+                translated[i + 2] = Float.floatToRawIntBits(Float.intBitsToFloat(vertices[i + 2]) + offsetZ);
+                translated[i + 3] = vertices[i + 3];
+            }
+            directBuffer.slice(directOffset, vertexCount * VERTEX_SIZE).order(ByteOrder.nativeOrder())
+                    .asIntBuffer().put(translated, 0, length);
+            directOffset += vertexCount * VERTEX_SIZE;
+            directVertices += vertexCount;
+        } finally {
+            endWrite();
+        }
+    }
+
+    // 메모리 순서 index번째 색상 바이트 (R, G, B, A)
+    private static int getColorByte(int color, int index) {
+        return (LITTLE_ENDIAN ? color >>> (index * 8) : color >>> ((3 - index) * 8)) & 0xFF;
+    }
+
+    private void putEdgeRings(VertexConsumer vertexConsumer, Matrix4f positionMatrix, float[] rings, int offset) {
+        int endOffset = offset + segments * 3;
+
+        // 링 정점들을 한 번씩만 변환해서 스크래치에 저장 (이웃 세그먼트가 공유)
+        for (int i = 0; i < segments; i++) {
+            int idx = i * 3;
+            positionMatrix.transformPosition(rings[offset + idx], rings[offset + idx + 1], rings[offset + idx + 2], transformedPos);
+            startRing[idx] = transformedPos.x;
+            startRing[idx + 1] = transformedPos.y;
+            startRing[idx + 2] = transformedPos.z;
+
+            positionMatrix.transformPosition(rings[endOffset + idx], rings[endOffset + idx + 1], rings[endOffset + idx + 2], transformedPos);
+            endRing[idx] = transformedPos.x;
+            endRing[idx + 1] = transformedPos.y;
+            endRing[idx + 2] = transformedPos.z;
+        }
+
+        // 원기둥 표면 렌더링 - 바깥에서 봤을 때 반시계 방향이 되도록 start_i, end_i, end_next, start_next 순서
+        for (int i = 0; i < segments; i++) {
+            int next = i + 1 == segments ? 0 : i + 1;
+
+            addVertex(vertexConsumer, startRing, i);
+            addVertex(vertexConsumer, endRing, i);
+            addVertex(vertexConsumer, endRing, next);
+            addVertex(vertexConsumer, startRing, next);
+        }
+    }
+
+    // 모서리 방향과 수직인 두 벡터를 계산 (할당 없이 필드에 저장)
+    private boolean computeFrame(Vector3f start, Vector3f end) {
+        dirX = end.x - start.x;
+        dirY = end.y - start.y;
+        dirZ = end.z - start.z;
+        float length = (float) Math.sqrt(dirX * dirX + dirY * dirY + dirZ * dirZ);
+
+        if (length < 0.001f) return false;
+
+        float invLength = 1.0f / length;
+        dirX *= invLength;
+        dirY *= invLength;
+        dirZ *= invLength;
+
+        // right = direction x (0, 1, 0)
+        rightX = -dirZ;
+        rightY = 0.0f;
+        rightZ = dirX;
+
+        // 만약 direction이 위쪽과 평행하면 right = direction x (1, 0, 0)
+        if (rightX * rightX + rightZ * rightZ < 0.001f) {
+            rightX = 0.0f;
+            rightY = dirZ;
+            rightZ = -dirY;
+        }
+
+        float invRight = 1.0f / (float) Math.sqrt(rightX * rightX + rightY * rightY + rightZ * rightZ);
+        rightX *= invRight;
+        rightY *= invRight;
+        rightZ *= invRight;
+
+        // up = right x direction
+        upX = rightY * dirZ - rightZ * dirY;
+        upY = rightZ * dirX - rightX * dirZ;
+        upZ = rightX * dirY - rightY * dirX;
+        return true;
+    }
+
+    private void addVertex(VertexConsumer vertexConsumer, float[] ring, int index) {
+        int idx = index * 3;
+        putVertex(vertexConsumer, ring[idx], ring[idx + 1], ring[idx + 2]);
+    }
+
+    // 최대 vertexCount개의 정점을 쓸 준비 - 직접 쓸 수 있으면 공간을 미리 확보
+    private void beginWrite(VertexConsumer vertexConsumer, int vertexCount) {
+        directTarget = null;
+        directBuffer = null;
+        if (!(vertexConsumer instanceof BufferBuilder)) return;
+
+        BufferBuilderAccessor builder = (BufferBuilderAccessor) vertexConsumer;
+        if (!builder.tesseracts$isBuilding()
+                || builder.tesseracts$getFormat() != VertexFormats.POSITION_COLOR
+                || builder.tesseracts$getDrawMode() != VertexFormat.DrawMode.QUADS
+                || builder.tesseracts$getCurrentElementId() != 0) {
+            return;
+        }
+
+        // 다 쓴 뒤에도 다음 정점 하나가 들어갈 자리가 있어야 함 (BufferBuilder.next()와 같은 불변식)
+        builder.tesseracts$invokeGrow((vertexCount + 1) * VERTEX_SIZE);
+        ByteBuffer buffer = builder.tesseracts$getBuffer();
+        if (buffer.order() != ByteOrder.nativeOrder()) return;
+
+        directTarget = builder;
+        directBuffer = buffer;
+        directOffset = builder.tesseracts$getElementOffset();
+        directVertices = 0;
+    }
+
+    // 호출자가 준비한 바이트 버퍼의 처음부터 쓸 준비
+    private void beginBufferWrite(ByteBuffer dest) {
+        directTarget = null;
+        directBuffer = dest;
+        directOffset = 0;
+        directVertices = 0;
+    }
+
+    // 직접 쓴 정점들을 BufferBuilder에 반영
+    private void endWrite() {
+        if (directTarget != null) {
+            directTarget.tesseracts$setElementOffset(directOffset);
+            directTarget.tesseracts$setVertexCount(directTarget.tesseracts$getVertexCount() + directVertices);
+        }
+        directTarget = null;
+        directBuffer = null;
+    }
+
+    private void setColor(float r, float g, float b, float alpha) {
+        colorR = r;
+        colorG = g;
+        colorB = b;
+        colorA = alpha;
+
+        // VertexConsumer.color(float...)와 같은 변환, 메모리 순서 R, G, B, A
+        int red = (int) (r * 255.0f) & 0xFF;
+        int green = (int) (g * 255.0f) & 0xFF;
+        int blue = (int) (b * 255.0f) & 0xFF;
+        int alphaByte = (int) (alpha * 255.0f) & 0xFF;
+        packedColor = LITTLE_ENDIAN
+                ? red | green << 8 | blue << 16 | alphaByte << 24
+                : red << 24 | green << 16 | blue << 8 | alphaByte;
+    }
+
+    private void putVertex(VertexConsumer vertexConsumer, float x, float y, float z) {
+        if (directBuffer != null) {
+            directBuffer.putFloat(directOffset, x);
+            directBuffer.putFloat(directOffset + 4, y);
+            directBuffer.putFloat(directOffset + 8, z);
+            directBuffer.putInt(directOffset + 12, packedColor);
+            directOffset += VERTEX_SIZE;
+            directVertices++;
+        } else {
+            vertexConsumer.vertex(x, y, z)
+                    .color(colorR, colorG, colorB, colorA)
+                    .next();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package cat.lacycat.tesseracts.client;
+
+import org.joml.Matrix4f;
+
+/**
+ * 4D 회전을 왼쪽/오른쪽 단위 쿼터니언 쌍(L, R)으로 표현하는 회전 엔진 (isoclinic 분해).
+ * 4D 벡터 (x, y, z, w)를 쿼터니언 w + xi + yj + zk 로 보고 v' = L * v * R 로 회전합니다.
+ *
+ * 기존 매트릭스 경로(XY, XZ, XW, YZ, YW, ZW 순서로 곱한 6개의 평면 회전)와 같은 결과를 내도록
+ * 평면마다 반각 (cos, sin) 상태를 들고 있고, 시간이 조금씩 흐를 때는 삼각함수 없이 점진적으로 갱신합니다.
+ * 스크래치 상태를 공유하므로 렌더러 하나당 인스턴스 하나를 사용해야 합니다 (스레드 안전하지 않음).
+ */
+public class IsoclinicRotation4D {
+
+    // 평면마다 왼쪽/오른쪽 쿼터니언의 허수축 (1 = i, 2 = j, 3 = k)과 반각 부호
+    // 순서: XY, XZ, XW, YZ, YW, ZW - 렌더러의 매트릭스 회전 규약(a' = cos a + sin b)에 맞춤
+    private static final int[] PLANE_AXES = {3, 2, 1, 1, 2, 3};
+    private static final float[] LEFT_SIGNS = {-1f, 1f, 1f, -1f, 1f, 1f};
+    private static final float[] RIGHT_SIGNS = {1f, -1f, 1f, 1f, 1f, 1f};
+
+    // (x, y, z, w) 인덱스를 쿼터니언 성분 인덱스로
+    private static final int[] QUATERNION_TO_XYZW = {1, 2, 3, 0};
+
+    // 이 간격보다 크게 시간이 점프하면 점진 갱신 대신 다시 정확하게 계산
+    private static final float MAX_INCREMENTAL_STEP = 0.05f;
+    // 누적 오차를 막기 위해 주기적으로 정확한 값으로 재동기화
+    private static final int RESYNC_INTERVAL = 256;
+
+    private final float[] rates;
+
+    // 평면별 반각 상태 (cos(θ/2), sin(θ/2))
+    private final float[] halfCos = new float[6];
+    private final float[] halfSin = new float[6];
+
+    // 결합된 쿼터니언 쌍 (실수부, i, j, k)
+    private final float[] left = new float[4];
+    private final float[] right = new float[4];
+    private final float[] scratch = new float[4];
+    private final float[] factor = new float[4];
+
+    // (x, y, z, w) 기준 4x4 회전 행렬, 행 우선
+    private final float[] matrix = new float[16];
+
+    private float currentTime = Float.NaN;
+    private int stepsSinceResync = 0;
+
+    /**
+     * @param rates 평면별 각속도 (XY, XZ, XW, YZ, YW, ZW 순서, 라디안/시간 단위)
+     */
+    public IsoclinicRotation4D(float[] rates) {
+        if (rates.length != 6) {
+            throw new IllegalArgumentException("4D rotation needs 6 plane rates, got " + rates.length);
+        }
+        this.rates = rates.clone();
+    }
+
+    /**
+     * 주어진 시간으로 회전 상태를 옮깁니다.
+     * 같은 시간으로 다시 호출하면 아무 일도 하지 않고, 작은 시간 변화는 삼각함수 없이 점진적으로 갱신합니다.
+     */
+    public void advanceTo(float time) {
+        if (time == currentTime) return;
+
+        float delta = time - currentTime;
+        if (Float.isFinite(delta) && Math.abs(delta) <= MAX_INCREMENTAL_STEP && stepsSinceResync < RESYNC_INTERVAL) {
+            advanceIncrementally(delta);
+            stepsSinceResync++;
+        } else {
+            resync(time);
+        }
+        currentTime = time;
+        combine();
+    }
+
+    // 절대 시간에서 정확하게 다시 계산
+    private void resync(float time) {
+        for (int i = 0; i < 6; i++) {
+            // 매트릭스 경로와 같은 각도 범위 제한
+            float angle = (time * rates[i]) % (float) (2 * Math.PI);
+            halfCos[i] = (float) Math.cos(angle * 0.5f);
+            halfSin[i] = (float) Math.sin(angle * 0.5f);
+        }
+        stepsSinceResync = 0;
+    }
+
+    // 평면별 반각을 작은 스텝만큼 복소수 곱으로 회전 (테일러 전개 - 스텝이 작아 오차 무시 가능)
+    private void advanceIncrementally(float delta) {
+        for (int i = 0; i < 6; i++) {
+            float step = rates[i] * delta * 0.5f;
+            float step2 = step * step;
+            float stepCos = 1.0f - step2 * 0.5f + step2 * step2 * (1.0f / 24.0f);
+            float stepSin = step * (1.0f - step2 * (1.0f / 6.0f));
+
+            float c = halfCos[i] * stepCos - halfSin[i] * stepSin;
+            float s = halfSin[i] * stepCos + halfCos[i] * stepSin;
+
+            // 길이가 1에서 벗어나지 않도록 정규화
+            float invLength = 1.0f / (float) Math.sqrt(c * c + s * s);
+            halfCos[i] = c * invLength;
+            halfSin[i] = s * invLength;
+        }
+    }
+
+    // L = l_XY * l_XZ * ... * l_ZW, R = r_ZW * ... * r_XY
+    private void combine() {
+        setIdentity(left);
+        setIdentity(right);
+
+        for (int i = 0; i < 6; i++) {
+            setFactor(i, LEFT_SIGNS[i]);
+            multiply(left, factor, left);
+        }
+        for (int i = 5; i >= 0; i--) {
+            setFactor(i, RIGHT_SIGNS[i]);
+            multiply(right, factor, right);
+        }
+
+        buildMatrix();
+    }
+
+    private void setFactor(int plane, float sign) {
+        factor[0] = halfCos[plane];
+        factor[1] = 0.0f;
+        factor[2] = 0.0f;
+        factor[3] = 0.0f;
+        factor[PLANE_AXES[plane]] = sign * halfSin[plane];
+    }
+
+    // dest = a * b (해밀턴 곱, dest가 a나 b와 같아도 됨)
+    private void multiply(float[] a, float[] b, float[] dest) {
+        float w = a[0] * b[0] - a[1] * b[1] - a[2] * b[2] - a[3] * b[3];
+        float x = a[0] * b[1] + a[1] * b[0] + a[2] * b[3] - a[3] * b[2];
+        float y = a[0] * b[2] - a[1] * b[3] + a[2] * b[0] + a[3] * b[1];
+        float z = a[0] * b[3] + a[1] * b[2] - a[2] * b[1] + a[3] * b[0];
+        dest[0] = w;
+        dest[1] = x;
+        dest[2] = y;
+        dest[3] = z;
+    }
+
+    private static void setIdentity(float[] quaternion) {
+        quaternion[0] = 1.0f;
+        quaternion[1] = 0.0f;
+        quaternion[2] = 0.0f;
+        quaternion[3] = 0.0f;
+    }
+
+    // L * v * R 을 (x, y, z, w) 기준 4x4 행렬로 펼침 - 정점마다 쿼터니언 곱 두 번 대신 행렬-벡터 곱 한 번
+    private void buildMatrix() {
+        // 쿼터니언 성분 순서 (실수부, i, j, k) = (w, x, y, z)
+        int[] order = QUATERNION_TO_XYZW;
+        for (int column = 0; column < 4; column++) {
+            // 기저 벡터 하나를 L * e * R 로 보내면 행렬의 열 하나가 나옴
+            scratch[0] = 0.0f;
+            scratch[1] = 0.0f;
+            scratch[2] = 0.0f;
+            scratch[3] = 0.0f;
+            scratch[order[column]] = 1.0f;
+            multiply(left, scratch, scratch);
+            multiply(scratch, right, scratch);
+
+            for (int row = 0; row < 4; row++) {
+                matrix[row * 4 + column] = scratch[order[row]];
+            }
+        }
+    }
+
+    /**
+     * 정점 하나 (x, y, z, w)를 회전시켜 dest에 (x, y, z, w) 순서로 씁니다.
+     */
+    public void transform(float x, float y, float z, float w, float[] dest) {
+        float[] m = matrix;
+        dest[0] = m[0] * x + m[1] * y + m[2] * z + m[3] * w;
+        dest[1] = m[4] * x + m[5] * y + m[6] * z + m[7] * w;
+        dest[2] = m[8] * x + m[9] * y + m[10] * z + m[11] * w;
+        dest[3] = m[12] * x + m[13] * y + m[14] * z + m[15] * w;
+    }
+
+    /**
+     * 현재 회전을 JOML 매트릭스로 복사합니다 (기존 투영 코드와 함께 쓰기 위함).
+     */
+    public Matrix4f toMatrix(Matrix4f dest) {
+        float[] m = matrix;
+        // JOML set()은 열 우선 순서
+        return dest.set(
+                m[0], m[4], m[8], m[12],
+                m[1], m[5], m[9], m[13],
+                m[2], m[6], m[10], m[14],
+                m[3], m[7], m[11], m[15]);
+    }
+}
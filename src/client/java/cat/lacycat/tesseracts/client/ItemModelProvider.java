@@ -1,11 +1,16 @@
 package cat.lacycat.tesseracts.client;
 
+import cat.lacycat.tesseracts.PolytopeBlock;
 import cat.lacycat.tesseracts.TesseractMod;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
 import net.fabricmc.fabric.api.datagen.v1.provider.FabricModelProvider;
+import net.minecraft.block.Blocks;
 import net.minecraft.data.client.BlockStateModelGenerator;
 import net.minecraft.data.client.ItemModelGenerator;
 import net.minecraft.data.client.Model;
+import net.minecraft.data.client.ModelIds;
+import net.minecraft.data.client.TextureMap;
+import net.minecraft.item.Item;
 import net.minecraft.util.Identifier;
 
 import java.util.Optional;
@@ -18,12 +23,24 @@ public class ItemModelProvider extends FabricModelProvider {
 
     @Override
     public void generateBlockStateModels(BlockStateModelGenerator blockStateModelGenerator) {
+        // 먼 거리에서 청크 메시로 그릴 기준 자세의 정적 와이어프레임 모델
+        Identifier modelId = ModelIds.getBlockModelId(TesseractMod.TESSERACT_BLOCK);
+        blockStateModelGenerator.modelCollector.accept(modelId, TesseractStaticModel::createModelJson);
+        blockStateModelGenerator.blockStateCollector.accept(
+                BlockStateModelGenerator.createSingletonBlockState(TesseractMod.TESSERACT_BLOCK, modelId));
 
+        // 다포체 블록은 블록 엔티티 렌더러만 그리므로 부서질 때의 파티클 텍스처만 있는 모델
+        for (PolytopeBlock block : TesseractMod.POLYTOPE_BLOCKS) {
+            blockStateModelGenerator.registerBuiltinWithParticle(block, TextureMap.getId(Blocks.GLASS));
+        }
     }
 
     @Override
     public void generateItemModels(ItemModelGenerator itemModelGenerator) {
         Model builtinEntityModel = new Model(Optional.of(new Identifier("builtin/entity")), Optional.empty());
         itemModelGenerator.register(TesseractMod.TESSERACT_ITEM, builtinEntityModel);
+        for (Item item : TesseractMod.POLYTOPE_ITEMS) {
+            itemModelGenerator.register(item, builtinEntityModel);
+        }
     }
 }
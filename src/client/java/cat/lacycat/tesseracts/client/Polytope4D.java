@@ -0,0 +1,378 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.PolytopeShape;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+
+/**
+ * 정칙 4차원 다포체의 정점/모서리 표. 좌표 공식과 쌍대 관계로 정점을 만들고,
+ * 모서리는 최소 거리에 있는 정점 쌍으로 찾습니다 (정칙 다포체에서는 이것이 정확히 모서리).
+ *
+ * 정점은 외접 반지름 1로 맞춘 성분별 float 배열로, 모서리는 정점 인덱스 쌍으로 저장하고 모양마다 한 번만 만듭니다.
+ * 모양마다 블록/아이템 투영기와 튜브 세그먼트 수, LOD 거리 배율도 여기서 정합니다 (렌더 스레드 전용).
+ */
+public final class Polytope4D {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    private static final double PHI = (1.0 + Math.sqrt(5.0)) / 2.0;
+
+    // 블록 하나의 전체 세그먼트 튜브 정점 예산 - 모서리가 많으면 세그먼트 수를 줄이고, 최소 세그먼트로도 넘으면 선으로 그림
+    private static final int TUBE_VERTEX_BUDGET = 4096;
+    private static final int MIN_TUBE_SEGMENTS = 3;
+    // 이보다 모서리가 많으면 LOD 단계 거리를 당김 (정이십사포체 기준)
+    private static final int LOD_REFERENCE_EDGES = 96;
+
+    private static final EnumMap<PolytopeShape, Polytope4D> POLYTOPES = new EnumMap<>(PolytopeShape.class);
+
+    private final PolytopeShape shape;
+    private final float[] vertexX;
+    private final float[] vertexY;
+    private final float[] vertexZ;
+    private final float[] vertexW;
+    private final int[][] edges;
+    private final float edgeLength;
+
+    private TesseractProjector blockProjector;
+    private TesseractProjector itemProjector;
+
+    private Polytope4D(PolytopeShape shape, List<double[]> vertices) {
+        this.shape = shape;
+
+        // 외접 반지름 1로 맞춤
+        double radius = 0.0;
+        for (double[] vertex : vertices) {
+            radius = Math.max(radius, Math.sqrt(dot(vertex, vertex)));
+        }
+
+        int vertexCount = vertices.size();
+        this.vertexX = new float[vertexCount];
+        this.vertexY = new float[vertexCount];
+        this.vertexZ = new float[vertexCount];
+        this.vertexW = new float[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            double[] vertex = vertices.get(i);
+            vertexX[i] = (float) (vertex[0] / radius);
+            vertexY[i] = (float) (vertex[1] / radius);
+            vertexZ[i] = (float) (vertex[2] / radius);
+            vertexW[i] = (float) (vertex[3] / radius);
+        }
+
+        this.edges = findEdges(vertices);
+        this.edgeLength = (float) (Math.sqrt(distanceSq(vertices.get(edges[0][0]), vertices.get(edges[0][1]))) / radius);
+    }
+
+    /**
+     * 모양의 표를 돌려줍니다. 처음 요청될 때 만듭니다.
+     */
+    public static Polytope4D get(PolytopeShape shape) {
+        Polytope4D polytope = POLYTOPES.get(shape);
+        if (polytope == null) {
+            long start = System.nanoTime();
+            polytope = new Polytope4D(shape, createVertices(shape));
+            POLYTOPES.put(shape, polytope);
+            LOGGER.info("Built {} polytope: {} vertices, {} edges, {}, {} vertices per block ({} ms)",
+                    shape.getName(), polytope.getVertexCount(), polytope.getEdgeCount(),
+                    polytope.usesTubes() ? polytope.getTubeSegments() + " tube segments" : "line edges",
+                    polytope.getBlockVertexCount(),
+                    String.format("%.1f", (System.nanoTime() - start) / 1_000_000.0));
+        }
+        return polytope;
+    }
+
+    public PolytopeShape getShape() {
+        return shape;
+    }
+
+    public int getVertexCount() {
+        return vertexX.length;
+    }
+
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    /**
+     * 모서리 정점 인덱스 쌍. 반환된 배열을 수정하면 안 됩니다.
+     */
+    public int[][] getEdges() {
+        return edges;
+    }
+
+    /**
+     * 외접 반지름이 1일 때의 모서리 길이.
+     */
+    public float getEdgeLength() {
+        return edgeLength;
+    }
+
+    /**
+     * 외접 반지름 radius로 키운 정점 성분 하나 (0 = x, 1 = y, 2 = z, 3 = w) 의 새 배열.
+     */
+    float[] getScaledComponent(int axis, float radius) {
+        float[] source = switch (axis) {
+            case 0 -> vertexX;
+            case 1 -> vertexY;
+            case 2 -> vertexZ;
+            default -> vertexW;
+        };
+        float[] component = new float[source.length];
+        for (int i = 0; i < component.length; i++) {
+            component[i] = source[i] * radius;
+        }
+        return component;
+    }
+
+    /**
+     * 가장 적은 세그먼트의 튜브도 블록당 정점 예산 안에 들어가는지. 아니면 거리와 상관없이 모서리마다 선 하나로 그립니다
+     * (정육백포체 720 * 3 * 4 = 8640, 정백이십포체 1200 * 3 * 4 = 14400 정점 대신 1440, 2400 정점).
+     */
+    public boolean usesTubes() {
+        return edges.length * MIN_TUBE_SEGMENTS * 4 <= TUBE_VERTEX_BUDGET;
+    }
+
+    /**
+     * 가까운 단계에서 블록 하나가 출력하는 정점 수 (튜브 또는 선).
+     */
+    public int getBlockVertexCount() {
+        return usesTubes() ? edges.length * getTubeSegments() * 4 : edges.length * 2;
+    }
+
+    /**
+     * 가까운 (FULL) 단계 튜브의 세그먼트 수 - 블록당 정점 수가 예산을 넘지 않도록 모서리 수에 맞춰 줄임.
+     * usesTubes()가 false인 모양에서는 예산을 넘으므로 튜브로 그리지 않습니다.
+     */
+    public int getTubeSegments() {
+        int segments = TUBE_VERTEX_BUDGET / (edges.length * 4);
+        return Math.max(MIN_TUBE_SEGMENTS, Math.min(TesseractBlockEntityRenderer.CYLINDER_SEGMENTS, segments));
+    }
+
+    /**
+     * 튜브 반지름 - 모서리가 짧은 다포체는 튜브도 가늘게 (테서랙트 모서리 길이 1 기준).
+     */
+    public float getTubeRadius(float baseRadius) {
+        return baseRadius * Math.min(1.0f, edgeLength);
+    }
+
+    /**
+     * LOD 단계를 고를 때 카메라 거리에 곱하는 배율 - 모서리가 많을수록 더 가까이서 단계를 낮춤.
+     */
+    public double getLodDistanceScale() {
+        return Math.max(1.0, Math.sqrt((double) edges.length / LOD_REFERENCE_EDGES));
+    }
+
+    /**
+     * 블록용 투영기 (블록 테서랙트와 같은 외접 반지름 1, 투영 매개변수, 회전 속도).
+     */
+    public TesseractProjector getBlockProjector() {
+        if (blockProjector == null) {
+            TesseractProjector reference = TesseractProjector.BLOCK;
+            blockProjector = new TesseractProjector(this, reference.getMaxVertexNorm(), reference.getRotationRates(),
+                    reference.getWOffset(), reference.getProjectionScale(), reference.getCoordinateLimit(),
+                    reference.getPeriod());
+        }
+        return blockProjector;
+    }
+
+    /**
+     * 아이템용 투영기 (아이템 테서랙트와 같은 매개변수).
+     */
+    public TesseractProjector getItemProjector() {
+        if (itemProjector == null) {
+            TesseractProjector reference = TesseractProjector.ITEM;
+            itemProjector = new TesseractProjector(this, reference.getMaxVertexNorm(), reference.getRotationRates(),
+                    reference.getWOffset(), reference.getProjectionScale(), reference.getCoordinateLimit(),
+                    reference.getPeriod());
+        }
+        return itemProjector;
+    }
+
+    private static List<double[]> createVertices(PolytopeShape shape) {
+        return switch (shape) {
+            case FIVE_CELL -> createFiveCell();
+            case SIXTEEN_CELL -> createSixteenCell();
+            case TWENTY_FOUR_CELL -> createTwentyFourCell();
+            case SIX_HUNDRED_CELL -> createSixHundredCell();
+            case HUNDRED_TWENTY_CELL -> createHundredTwentyCell();
+        };
+    }
+
+    // (±1, ±1, ±1, -1/√5) 중 부호 곱이 양수인 넷과 (0, 0, 0, 4/√5) - 모든 쌍의 거리가 √8
+    private static List<double[]> createFiveCell() {
+        double low = -1.0 / Math.sqrt(5.0);
+        List<double[]> vertices = new ArrayList<>(5);
+        vertices.add(new double[]{1, 1, 1, low});
+        vertices.add(new double[]{1, -1, -1, low});
+        vertices.add(new double[]{-1, 1, -1, low});
+        vertices.add(new double[]{-1, -1, 1, low});
+        vertices.add(new double[]{0, 0, 0, 4.0 / Math.sqrt(5.0)});
+        return vertices;
+    }
+
+    // (±1, 0, 0, 0)의 모든 순열
+    private static List<double[]> createSixteenCell() {
+        List<double[]> vertices = new ArrayList<>(8);
+        addAxisVertices(vertices, 1.0);
+        return vertices;
+    }
+
+    // (±1, ±1, 0, 0)의 모든 순열
+    private static List<double[]> createTwentyFourCell() {
+        List<double[]> vertices = new ArrayList<>(24);
+        for (int a = 0; a < 4; a++) {
+            for (int b = a + 1; b < 4; b++) {
+                for (int signs = 0; signs < 4; signs++) {
+                    double[] vertex = new double[4];
+                    vertex[a] = (signs & 1) != 0 ? -1 : 1;
+                    vertex[b] = (signs & 2) != 0 ? -1 : 1;
+                    vertices.add(vertex);
+                }
+            }
+        }
+        return vertices;
+    }
+
+    // (±½, ±½, ±½, ±½) 16개, (±1, 0, 0, 0)의 순열 8개, ½(±φ, ±1, ±1/φ, 0)의 짝순열 96개
+    private static List<double[]> createSixHundredCell() {
+        List<double[]> vertices = new ArrayList<>(120);
+        for (int signs = 0; signs < 16; signs++) {
+            double[] vertex = new double[4];
+            for (int axis = 0; axis < 4; axis++) {
+                vertex[axis] = (signs & (1 << axis)) != 0 ? -0.5 : 0.5;
+            }
+            vertices.add(vertex);
+        }
+        addAxisVertices(vertices, 1.0);
+
+        double[] base = {PHI / 2.0, 0.5, 1.0 / (2.0 * PHI), 0.0};
+        for (int[] permutation : evenPermutations()) {
+            for (int signs = 0; signs < 8; signs++) {
+                double[] vertex = new double[4];
+                for (int k = 0; k < 3; k++) {
+                    vertex[permutation[k]] = (signs & (1 << k)) != 0 ? -base[k] : base[k];
+                }
+                vertices.add(vertex);
+            }
+        }
+        return vertices;
+    }
+
+    // 정육백포체의 쌍대 - 정사면체 칸 600개의 중심 (모서리 그래프에서 서로 모두 이웃인 정점 넷)
+    private static List<double[]> createHundredTwentyCell() {
+        List<double[]> dual = createSixHundredCell();
+        int[][] dualEdges = findEdges(dual);
+
+        IntOpenHashSet[] neighbours = new IntOpenHashSet[dual.size()];
+        for (int i = 0; i < neighbours.length; i++) {
+            neighbours[i] = new IntOpenHashSet();
+        }
+        for (int[] edge : dualEdges) {
+            neighbours[edge[0]].add(edge[1]);
+            neighbours[edge[1]].add(edge[0]);
+        }
+
+        List<double[]> vertices = new ArrayList<>(600);
+        IntArrayList common = new IntArrayList();
+        for (int[] edge : dualEdges) {
+            int a = edge[0];
+            int b = edge[1];
+            common.clear();
+            for (int c : neighbours[a]) {
+                if (c > b && neighbours[b].contains(c)) common.add(c);
+            }
+            for (int i = 0; i < common.size(); i++) {
+                int c = common.getInt(i);
+                for (int j = 0; j < common.size(); j++) {
+                    int d = common.getInt(j);
+                    if (d <= c || !neighbours[c].contains(d)) continue;
+
+                    double[] center = new double[4];
+                    for (int axis = 0; axis < 4; axis++) {
+                        center[axis] = (dual.get(a)[axis] + dual.get(b)[axis] + dual.get(c)[axis] + dual.get(d)[axis]) * 0.25;
+                    }
+                    vertices.add(center);
+                }
+            }
+        }
+        return vertices;
+    }
+
+    private static void addAxisVertices(List<double[]> vertices, double length) {
+        for (int axis = 0; axis < 4; axis++) {
+            for (int sign = -1; sign <= 1; sign += 2) {
+                double[] vertex = new double[4];
+                vertex[axis] = sign * length;
+                vertices.add(vertex);
+            }
+        }
+    }
+
+    // {0, 1, 2, 3}의 짝순열 12개
+    private static List<int[]> evenPermutations() {
+        List<int[]> permutations = new ArrayList<>(12);
+        for (int a = 0; a < 4; a++) {
+            for (int b = 0; b < 4; b++) {
+                for (int c = 0; c < 4; c++) {
+                    int d = 6 - a - b - c;
+                    if (a == b || a == c || b == c || d == a || d == b || d == c) continue;
+
+                    int[] permutation = {a, b, c, d};
+                    int inversions = 0;
+                    for (int i = 0; i < 4; i++) {
+                        for (int j = i + 1; j < 4; j++) {
+                            if (permutation[i] > permutation[j]) inversions++;
+                        }
+                    }
+                    if (inversions % 2 == 0) permutations.add(permutation);
+                }
+            }
+        }
+        return permutations;
+    }
+
+    // 최소 거리 (상대 오차 1e-3 이내) 에 있는 모든 정점 쌍
+    private static int[][] findEdges(List<double[]> vertices) {
+        int vertexCount = vertices.size();
+        double minDistanceSq = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < vertexCount; i++) {
+            for (int j = i + 1; j < vertexCount; j++) {
+                minDistanceSq = Math.min(minDistanceSq, distanceSq(vertices.get(i), vertices.get(j)));
+            }
+        }
+
+        double threshold = minDistanceSq * (1.0 + 1.0e-3);
+        IntArrayList pairs = new IntArrayList();
+        for (int i = 0; i < vertexCount; i++) {
+            for (int j = i + 1; j < vertexCount; j++) {
+                if (distanceSq(vertices.get(i), vertices.get(j)) <= threshold) {
+                    pairs.add(i);
+                    pairs.add(j);
+                }
+            }
+        }
+
+        int[][] edges = new int[pairs.size() / 2][];
+        for (int i = 0; i < edges.length; i++) {
+            edges[i] = new int[]{pairs.getInt(i * 2), pairs.getInt(i * 2 + 1)};
+        }
+        return edges;
+    }
+
+    private static double distanceSq(double[] a, double[] b) {
+        double sum = 0.0;
+        for (int axis = 0; axis < 4; axis++) {
+            double d = a[axis] - b[axis];
+            sum += d * d;
+        }
+        return sum;
+    }
+
+    private static double dot(double[] a, double[] b) {
+        return a[0] * b[0] + a[1] * b[1] + a[2] * b[2] + a[3] * b[3];
+    }
+}
@@ -0,0 +1,163 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.PolytopeBlockEntity;
+import cat.lacycat.tesseracts.PolytopeShape;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.block.entity.BlockEntityRenderer;
+import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.EnumMap;
+
+/**
+ * 정칙 4차원 다포체 블록 렌더러. 테서랙트 블록 엔티티 렌더러와 같은 단계 (절두체, LOD, 위상 버킷, 빌보드) 로
+ * Polytope4D의 표를 그립니다.
+ *
+ * 정점은 버킷마다 한 번 투영하고, 튜브 출력기가 정점마다 한 번만 뷰 공간으로 변환한 뒤 모서리들이 공유합니다.
+ * 모서리가 많은 다포체는 튜브 세그먼트 수와 LOD 거리를 모양마다 줄여서 블록당 정점 수를 예산 안에 두고,
+ * 최소 세그먼트로도 예산을 넘는 모양 (정육백포체, 정백이십포체) 은 거리와 상관없이 선으로 그립니다.
+ */
+public class PolytopeBlockEntityRenderer implements BlockEntityRenderer<PolytopeBlockEntity> {
+
+    // 모양별 튜브 출력기 (가까운 단계, 중간 단계)
+    private final EnumMap<PolytopeShape, CylinderTubeEmitter> fullEmitters = new EnumMap<>(PolytopeShape.class);
+    private final EnumMap<PolytopeShape, CylinderTubeEmitter> reducedEmitters = new EnumMap<>(PolytopeShape.class);
+
+    private final Matrix4f positionMatrix = new Matrix4f();
+    private final Matrix3f normalMatrix = new Matrix3f();
+
+    // 모서리별 색상 (r, g, b 반복) 과 반투명 모드의 알파 - 가장 모서리가 많은 모양에 맞춰 늘림
+    private float[] edgeColors = new float[0];
+    private float[] edgeAlphas = new float[0];
+
+    private final Vector3f linePosition = new Vector3f();
+    private final Vector3f lineNormal = new Vector3f();
+
+    public PolytopeBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) {
+    }
+
+    @Override
+    public void render(PolytopeBlockEntity entity, float tickDelta, MatrixStack matrices,
+                       VertexConsumerProvider vertexConsumers, int light, int overlay) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.world == null) return;
+
+        long start = System.nanoTime();
+        try {
+            renderPolytope(client, entity.getPos(), Polytope4D.get(entity.getShape()), matrices.peek(), vertexConsumers);
+        } catch (Exception e) {
+            // 렌더링 오류 발생 시 처음 한 번만 로그를 남기고 크래시 방지
+            TesseractDebugValidation.reportFailure("PolytopeBlockEntityRenderer", e);
+        } finally {
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
+
+    private void renderPolytope(MinecraftClient client, BlockPos pos, Polytope4D polytope, MatrixStack.Entry entry,
+                                VertexConsumerProvider vertexConsumers) {
+        TesseractProjector projector = polytope.getBlockProjector();
+        float tubeRadius = polytope.getTubeRadius(TesseractBlockEntityRenderer.CYLINDER_RADIUS);
+        if (!TesseractCulling.isVisible(pos, projector.getMaxExtent(tubeRadius))) return;
+
+        // 튜브가 정점 예산을 넘는 모양은 항상 선, 나머지는 모서리가 많을수록 LOD 단계를 더 가까이서 낮춤
+        TesseractLod.Tier tier = TesseractLod.Tier.LINES;
+        if (polytope.usesTubes()) {
+            Vec3d camera = client.gameRenderer.getCamera().getPos();
+            double distanceScale = polytope.getLodDistanceScale();
+            tier = TesseractLod.select(pos, camera.squaredDistanceTo(
+                    pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) * distanceScale * distanceScale);
+        }
+
+        int bucketCount = TesseractRenderConfig.phaseBuckets;
+        int bucket = TesseractBlockEntityRenderer.getPhaseBucket(pos, bucketCount);
+        float time = TesseractAnimationClock.getBlockTime(bucket, bucketCount);
+        long frame = TesseractAnimationClock.getFrame();
+
+        positionMatrix.set(entry.getPositionMatrix()).translate(0.5f, 0.5f, 0.5f);
+        normalMatrix.set(entry.getNormalMatrix());
+        float billboardAngle = TesseractBlockEntityRenderer.getBillboardAngle(client, pos);
+        if (billboardAngle != 0.0f) {
+            positionMatrix.rotateY(billboardAngle);
+            normalMatrix.rotateY(billboardAngle);
+        }
+
+        int[][] edges = polytope.getEdges();
+        ensureEdgeCapacity(edges.length);
+        fillEdgeColors(time, edges.length, edgeColors);
+        Vector3f[] projectedVertices = projector.getProjectedVertices(bucket, frame, time);
+
+        if (tier == TesseractLod.Tier.LINES) {
+            TesseractBlockEntityRenderer.emitLineEdges(vertexConsumers.getBuffer(RenderLayer.getLines()),
+                    positionMatrix, normalMatrix, projectedVertices, edges, edgeColors, linePosition, lineNormal);
+            return;
+        }
+
+        CylinderTubeEmitter emitter = tier == TesseractLod.Tier.REDUCED ? getReducedEmitter(polytope) : getFullEmitter(polytope);
+        if (TesseractRenderConfig.translucentEdges) {
+            TesseractBlockEntityRenderer.fillEdgeAlphas(edges, projector.getVertexDepths(bucket, frame, time),
+                    projector.getMaxVertexNorm(), edgeAlphas);
+            emitter.emitEdgesBackToFront(vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME_TRANSLUCENT),
+                    positionMatrix, projectedVertices, edges, edgeColors, edgeAlphas);
+        } else {
+            emitter.emitEdges(vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME),
+                    positionMatrix, projectedVertices, edges, edgeColors, 1f);
+        }
+    }
+
+    // 모서리별 색상을 dest에 씀 - 테서랙트와 같은 기본 색에 모서리 번호로 6단계 변화
+    static void fillEdgeColors(float time, int edgeCount, float[] dest) {
+        float baseR = 0.6f + 0.3f * (float) Math.sin(time);
+        float baseG = 0.6f + 0.3f * (float) Math.cos(time * 1.1f);
+        float baseB = 0.6f + 0.3f * (float) Math.sin(time * 0.9f);
+
+        for (int edgeIndex = 0; edgeIndex < edgeCount; edgeIndex++) {
+            float colorVariation = (edgeIndex % 6) * 0.1f;
+            dest[edgeIndex * 3] = Math.max(0.4f, Math.min(1.0f, baseR + colorVariation));
+            dest[edgeIndex * 3 + 1] = Math.max(0.4f, Math.min(1.0f, baseG + colorVariation));
+            dest[edgeIndex * 3 + 2] = Math.max(0.4f, Math.min(1.0f, baseB + colorVariation));
+        }
+    }
+
+    private void ensureEdgeCapacity(int edgeCount) {
+        if (edgeAlphas.length < edgeCount) {
+            edgeColors = new float[edgeCount * 3];
+            edgeAlphas = new float[edgeCount];
+        }
+    }
+
+    // 모양의 세그먼트 수와 품질 조절기의 단계 중 작은 쪽 (바뀌면 다시 만듦)
+    private CylinderTubeEmitter getFullEmitter(Polytope4D polytope) {
+        int segments = Math.min(polytope.getTubeSegments(), TesseractQualityGovernor.getFullSegments());
+        CylinderTubeEmitter emitter = fullEmitters.get(polytope.getShape());
+        if (emitter == null || emitter.getSegments() != segments) {
+            emitter = new CylinderTubeEmitter(segments,
+                    polytope.getTubeRadius(TesseractBlockEntityRenderer.CYLINDER_RADIUS));
+            fullEmitters.put(polytope.getShape(), emitter);
+        }
+        return emitter;
+    }
+
+    private CylinderTubeEmitter getReducedEmitter(Polytope4D polytope) {
+        int segments = Math.min(polytope.getTubeSegments(), TesseractQualityGovernor.getReducedSegments());
+        CylinderTubeEmitter emitter = reducedEmitters.get(polytope.getShape());
+        if (emitter == null || emitter.getSegments() != segments) {
+            emitter = new CylinderTubeEmitter(segments,
+                    polytope.getTubeRadius(TesseractBlockEntityRenderer.CYLINDER_RADIUS));
+            reducedEmitters.put(polytope.getShape(), emitter);
+        }
+        return emitter;
+    }
+
+    @Override
+    public int getRenderDistance() {
+        return TesseractRenderConfig.lodCutoffDistance;
+    }
+}
@@ -0,0 +1,70 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.PolytopeShape;
+import net.fabricmc.fabric.api.client.rendering.v1.BuiltinItemRenderer;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.item.ItemStack;
+import org.joml.Vector3f;
+
+/**
+ * 다포체 블록 아이템 렌더러. 테서랙트 아이템과 같은 변환과 투영 매개변수로 모양의 표를 그립니다.
+ */
+public class PolytopeItemRenderer implements BuiltinItemRenderer {
+
+    private final PolytopeShape shape;
+    private CylinderTubeEmitter tubeEmitter;
+
+    private float[] edgeColors = new float[0];
+
+    // 선 정점 변환용 스크래치
+    private final Vector3f linePosition = new Vector3f();
+    private final Vector3f lineNormal = new Vector3f();
+
+    public PolytopeItemRenderer(PolytopeShape shape) {
+        this.shape = shape;
+    }
+
+    @Override
+    public void render(ItemStack stack, MatrixStack matrices,
+                       VertexConsumerProvider vertexConsumers, int light, int overlay) {
+
+        long start = System.nanoTime();
+        try {
+            matrices.push();
+            TesseractItemRenderer.applyTransformations(matrices, ModelTransformationMode.GUI);
+
+            Polytope4D polytope = Polytope4D.get(shape);
+            int[][] edges = polytope.getEdges();
+            if (tubeEmitter == null) {
+                tubeEmitter = new CylinderTubeEmitter(
+                        Math.min(polytope.getTubeSegments(), TesseractItemRenderer.CYLINDER_SEGMENTS),
+                        polytope.getTubeRadius(TesseractItemRenderer.CYLINDER_RADIUS));
+                edgeColors = new float[edges.length * 3];
+            }
+
+            float animTime = TesseractAnimationClock.getItemTime();
+            Vector3f[] projectedVertices = polytope.getItemProjector().getProjectedVertices(
+                    TesseractAnimationClock.getFrame(), animTime);
+            PolytopeBlockEntityRenderer.fillEdgeColors(animTime, edges.length, edgeColors);
+
+            if (!polytope.usesTubes()) {
+                // 튜브가 정점 예산을 넘는 모양은 블록과 같이 모서리마다 선 하나
+                TesseractBlockEntityRenderer.emitLineEdges(vertexConsumers.getBuffer(RenderLayer.getLines()),
+                        matrices.peek().getPositionMatrix(), matrices.peek().getNormalMatrix(), projectedVertices,
+                        edges, edgeColors, linePosition, lineNormal);
+            } else {
+                tubeEmitter.emitEdges(vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME),
+                        matrices.peek().getPositionMatrix(), projectedVertices, edges, edgeColors, 1.0f);
+            }
+        } catch (Exception e) {
+            // 렌더링 오류 발생 시 처음 한 번만 로그를 남기고 무시
+            TesseractDebugValidation.reportFailure("PolytopeItemRenderer", e);
+        } finally {
+            matrices.pop();
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package cat.lacycat.tesseracts.client;
+
+/**
+ * 스칼라 투영 커널. 벡터 API를 쓸 수 없을 때의 기본값이고, 벡터 커널의 나머지 정점 처리에도 쓰입니다.
+ */
+final class ScalarProjectionKernel implements TesseractProjectionKernel {
+
+    static final ScalarProjectionKernel INSTANCE = new ScalarProjectionKernel();
+
+    private ScalarProjectionKernel() {
+    }
+
+    @Override
+    public void project(float[] matrices, int matrixCount, float[] vx, float[] vy, float[] vz, float[] vw, int vertexCount,
+                        float wOffset, float projectionScale, float limit, float[] outX, float[] outY, float[] outZ) {
+        for (int m = 0; m < matrixCount; m++) {
+            projectRange(matrices, m * 16, vx, vy, vz, vw, 0, vertexCount,
+                    wOffset, projectionScale, limit, outX, outY, outZ, m * vertexCount);
+        }
+    }
+
+    @Override
+    public void projectTrusted(float[] matrices, int matrixCount, float[] vx, float[] vy, float[] vz, float[] vw,
+                               int vertexCount, float wOffset, float projectionScale,
+                               float[] outX, float[] outY, float[] outZ) {
+        for (int m = 0; m < matrixCount; m++) {
+            projectRangeTrusted(matrices, m * 16, vx, vy, vz, vw, 0, vertexCount,
+                    wOffset, projectionScale, outX, outY, outZ, m * vertexCount);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    // 매트릭스 하나로 정점 [from, to)를 투영해서 out[outOffset + i]에 씀
+    static void projectRange(float[] matrices, int matrixOffset, float[] vx, float[] vy, float[] vz, float[] vw,
+                             int from, int to, float wOffset, float projectionScale, float limit,
+                             float[] outX, float[] outY, float[] outZ, int outOffset) {
+        float m00 = matrices[matrixOffset], m01 = matrices[matrixOffset + 1];
+        float m02 = matrices[matrixOffset + 2], m03 = matrices[matrixOffset + 3];
+        float m10 = matrices[matrixOffset + 4], m11 = matrices[matrixOffset + 5];
+        float m12 = matrices[matrixOffset + 6], m13 = matrices[matrixOffset + 7];
+        float m20 = matrices[matrixOffset + 8], m21 = matrices[matrixOffset + 9];
+        float m22 = matrices[matrixOffset + 10], m23 = matrices[matrixOffset + 11];
+        float m30 = matrices[matrixOffset + 12], m31 = matrices[matrixOffset + 13];
+        float m32 = matrices[matrixOffset + 14], m33 = matrices[matrixOffset + 15];
+
+        for (int i = from; i < to; i++) {
+            float x = vx[i], y = vy[i], z = vz[i], w = vw[i];
+            float tx = m00 * x + m10 * y + m20 * z + m30 * w;
+            float ty = m01 * x + m11 * y + m21 * z + m31 * w;
+            float tz = m02 * x + m12 * y + m22 * z + m32 * w;
+            float tw = m03 * x + m13 * y + m23 * z + m33 * w;
+
+            // 4D에서 3D로 원근 투영 (w가 0 근처여도 폭주하지 않도록 분모 하한 0.5)
+            float scale = projectionScale / Math.max(Math.abs(tw + wOffset), 0.5f);
+            if (!Float.isFinite(scale)) {
+                scale = projectionScale;
+            }
+
+            outX[outOffset + i] = Math.max(-limit, Math.min(limit, tx * scale));
+            outY[outOffset + i] = Math.max(-limit, Math.min(limit, ty * scale));
+            outZ[outOffset + i] = Math.max(-limit, Math.min(limit, tz * scale));
+        }
+    }
+
+    // projectRange()에서 검사와 제한을 뺀 것 (projectTrusted() 참고)
+    static void projectRangeTrusted(float[] matrices, int matrixOffset, float[] vx, float[] vy, float[] vz, float[] vw,
+                                    int from, int to, float wOffset, float projectionScale,
+                                    float[] outX, float[] outY, float[] outZ, int outOffset) {
+        float m00 = matrices[matrixOffset], m01 = matrices[matrixOffset + 1];
+        float m02 = matrices[matrixOffset + 2], m03 = matrices[matrixOffset + 3];
+        float m10 = matrices[matrixOffset + 4], m11 = matrices[matrixOffset + 5];
+        float m12 = matrices[matrixOffset + 6], m13 = matrices[matrixOffset + 7];
+        float m20 = matrices[matrixOffset + 8], m21 = matrices[matrixOffset + 9];
+        float m22 = matrices[matrixOffset + 10], m23 = matrices[matrixOffset + 11];
+        float m30 = matrices[matrixOffset + 12], m31 = matrices[matrixOffset + 13];
+        float m32 = matrices[matrixOffset + 14], m33 = matrices[matrixOffset + 15];
+
+        for (int i = from; i < to; i++) {
+            float x = vx[i], y = vy[i], z = vz[i], w = vw[i];
+            float scale = projectionScale / (m03 * x + m13 * y + m23 * z + m33 * w + wOffset);
+            outX[outOffset + i] = (m00 * x + m10 * y + m20 * z + m30 * w) * scale;
+            outY[outOffset + i] = (m01 * x + m11 * y + m21 * z + m31 * w) * scale;
+            outZ[outOffset + i] = (m02 * x + m12 * y + m22 * z + m32 * w) * scale;
+        }
+    }
+}
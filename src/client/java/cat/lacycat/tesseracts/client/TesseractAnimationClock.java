@@ -0,0 +1,74 @@
+package cat.lacycat.tesseracts.client;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.Util;
+
+/**
+ * 테서랙트 애니메이션 시계. 프레임 시작 시 한 번만 샘플링하므로 같은 프레임의 모든 블록/아이템이 같은 시간을 봅니다.
+ *
+ * 회전 속도들은 모두 0.01 (블록) / 0.005 (아이템)의 정수배이고 색상은 sin(t), cos(1.1t), sin(0.9t)를 쓰므로
+ * 애니메이션은 블록 200π, 아이템 400π 주기로 정확히 반복됩니다. 시간을 주기로 감싸서 월드 시간이 커져도 float 정밀도가 유지됩니다.
+ */
+public final class TesseractAnimationClock {
+
+    // 블록 애니메이션 주기 (시간 단위 = 틱 * 0.01)
+    public static final double BLOCK_PERIOD = 200 * Math.PI;
+    // 아이템 애니메이션 주기 (시간 단위 = 밀리초 * 0.002)
+    public static final double ITEM_PERIOD = 400 * Math.PI;
+
+    private static final long START_MILLIS = Util.getMeasuringTimeMs();
+
+    private static long frame = 0;
+    private static float blockTime = 0.0f;
+    private static float itemTime = 0.0f;
+
+    private TesseractAnimationClock() {
+    }
+
+    /**
+     * 프레임 시작 시 한 번 호출됩니다 (GameRenderer.render).
+     */
+    public static void beginFrame(float tickDelta) {
+        frame++;
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client != null && client.world != null) {
+            double time = (client.world.getTime() + (double) tickDelta) * 0.01;
+            blockTime = (float) (time % BLOCK_PERIOD);
+        }
+
+        double elapsed = (Util.getMeasuringTimeMs() - START_MILLIS) * 0.002;
+        itemTime = (float) (elapsed % ITEM_PERIOD);
+    }
+
+    /**
+     * 현재 프레임 번호. 프레임 단위 캐시의 키로 사용합니다.
+     */
+    public static long getFrame() {
+        return frame;
+    }
+
+    /**
+     * 블록 테서랙트용 애니메이션 시간 ((월드 시간 + tickDelta) * 0.01).
+     */
+    public static float getBlockTime() {
+        return blockTime;
+    }
+
+    /**
+     * 위상 버킷에 해당하는 블록 애니메이션 시간. 버킷들은 한 주기를 균등하게 나눈 만큼씩 어긋나 있습니다.
+     */
+    public static float getBlockTime(int bucket, int bucketCount) {
+        if (bucket <= 0 || bucketCount <= 1) return blockTime;
+
+        double time = blockTime + BLOCK_PERIOD * bucket / bucketCount;
+        return (float) (time % BLOCK_PERIOD);
+    }
+
+    /**
+     * 아이템 테서랙트용 애니메이션 시간 (밀리초 * 0.002).
+     */
+    public static float getItemTime() {
+        return itemTime;
+    }
+}
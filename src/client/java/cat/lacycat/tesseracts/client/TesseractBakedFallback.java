@@ -0,0 +1,152 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.TesseractMod;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.client.model.loading.v1.ModelLoadingPlugin;
+import net.fabricmc.fabric.api.renderer.v1.model.ForwardingBakedModel;
+import net.fabricmc.fabric.api.renderer.v1.render.RenderContext;
+import net.minecraft.block.BlockState;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.util.ModelIdentifier;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.world.BlockRenderView;
+
+import java.util.function.Supplier;
+
+/**
+ * 먼 거리 테서랙트를 청크 메시의 정적 모델로 그리는 대체 경로.
+ *
+ * 블록 모델은 항상 청크 메시에 포함되지만, 위치가 "구운 상태"일 때만 사각형을 출력합니다.
+ * 클라이언트 틱마다 불러온 테서랙트들의 카메라 거리를 확인해서 설정 거리를 넘으면 구운 상태로 바꾸고 해당 청크를 다시 빌드합니다.
+ * 구운 상태인 동안 블록 엔티티 렌더러는 아무것도 그리지 않으므로 프레임당 비용이 없습니다.
+ */
+public final class TesseractBakedFallback {
+
+    // 렌더 스레드에서만 바뀌고 청크 빌드 스레드에서도 읽으므로, 바뀔 때마다 새 집합으로 교체
+    private static volatile LongSet bakedPositions = new LongOpenHashSet();
+
+    // 클라이언트에 불러온 테서랙트 위치들 (렌더 스레드 전용)
+    private static final LongOpenHashSet loadedPositions = new LongOpenHashSet();
+
+    private static final BlockPos.Mutable scratchPos = new BlockPos.Mutable();
+
+    private TesseractBakedFallback() {
+    }
+
+    /**
+     * 테서랙트 블록 상태 모델을 거리 조건부 모델로 감쌉니다.
+     */
+    public static void initializeModels(ModelLoadingPlugin.Context context) {
+        context.modifyModelAfterBake().register((model, modelContext) -> {
+            if (model != null && modelContext.id() instanceof ModelIdentifier id
+                    && id.getNamespace().equals(TesseractMod.MOD_ID)
+                    && id.getPath().equals("tesseract_block")
+                    && !id.getVariant().equals("inventory")) {
+                return new FallbackModel(model);
+            }
+            return model;
+        });
+    }
+
+    /**
+     * 이 위치의 테서랙트가 지금 청크 메시로 그려지는지 여부.
+     */
+    public static boolean isBaked(BlockPos pos) {
+        return bakedPositions.contains(pos.asLong());
+    }
+
+    /**
+     * 클라이언트에 불러온 테서랙트 위치들 (렌더 스레드 전용, 수정하지 말 것).
+     */
+    static LongSet getLoadedPositions() {
+        return loadedPositions;
+    }
+
+    public static void onLoad(BlockPos pos) {
+        loadedPositions.add(pos.asLong());
+    }
+
+    public static void onUnload(BlockPos pos) {
+        long key = pos.asLong();
+        loadedPositions.remove(key);
+        if (bakedPositions.contains(key)) {
+            LongOpenHashSet updated = new LongOpenHashSet(bakedPositions);
+            updated.remove(key);
+            bakedPositions = updated;
+        }
+    }
+
+    /**
+     * 클라이언트 틱 끝에 호출됩니다. 거리 경계를 넘은 테서랙트의 상태를 바꾸고 청크를 다시 빌드합니다.
+     */
+    public static void tick(MinecraftClient client) {
+        if (client.world == null || client.worldRenderer == null) return;
+
+        LongSet current = bakedPositions;
+        if (loadedPositions.isEmpty() && current.isEmpty()) return;
+
+        Vec3d camera = client.gameRenderer.getCamera().getPos();
+        boolean enabled = TesseractRenderConfig.bakedFallbackEnabled;
+        // 품질 조절기가 낮추면 더 가까운 거리부터 정적 모델로 바뀜
+        double distance = TesseractQualityGovernor.getAnimatedDistance();
+        double hysteresis = TesseractRenderConfig.lodHysteresis;
+        double bakeDistanceSq = (distance + hysteresis) * (distance + hysteresis);
+        double animateDistanceSq = Math.max(0.0, distance - hysteresis) * Math.max(0.0, distance - hysteresis);
+
+        LongOpenHashSet updated = null;
+        LongIterator iterator = loadedPositions.iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.nextLong();
+            scratchPos.set(key);
+            double distanceSq = camera.squaredDistanceTo(
+                    scratchPos.getX() + 0.5, scratchPos.getY() + 0.5, scratchPos.getZ() + 0.5);
+
+            boolean baked = current.contains(key);
+            boolean shouldBake = enabled && (baked ? distanceSq > animateDistanceSq : distanceSq > bakeDistanceSq);
+            if (baked == shouldBake) continue;
+
+            if (updated == null) updated = new LongOpenHashSet(current);
+            if (shouldBake) {
+                updated.add(key);
+            } else {
+                updated.remove(key);
+            }
+            // 모델은 자기 블록 안에만 있으므로 그 블록의 섹션 하나만 다시 빌드 (인자는 섹션 좌표)
+            client.worldRenderer.scheduleBlockRender(ChunkSectionPos.getSectionCoord(scratchPos.getX()),
+                    ChunkSectionPos.getSectionCoord(scratchPos.getY()), ChunkSectionPos.getSectionCoord(scratchPos.getZ()));
+        }
+
+        if (updated != null) {
+            bakedPositions = updated;
+        }
+    }
+
+    /**
+     * 구운 상태인 위치에서만 감싼 정적 모델의 사각형을 출력하는 모델.
+     */
+    private static class FallbackModel extends ForwardingBakedModel {
+
+        FallbackModel(BakedModel model) {
+            this.wrapped = model;
+        }
+
+        @Override
+        public boolean isVanillaAdapter() {
+            return false;
+        }
+
+        @Override
+        public void emitBlockQuads(BlockRenderView blockView, BlockState state, BlockPos pos,
+                                   Supplier<Random> randomSupplier, RenderContext context) {
+            if (isBaked(pos)) {
+                super.emitBlockQuads(blockView, state, pos, randomSupplier, context);
+            }
+        }
+    }
+}
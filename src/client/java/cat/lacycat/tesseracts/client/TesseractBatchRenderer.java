@@ -0,0 +1,226 @@
+package cat.lacycat.tesseracts.client;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * 일괄 렌더링 경로. 블록 엔티티 디스패처를 거치지 않고 불러온 테서랙트들을 월드 렌더 이벤트 한 번에 모두 그립니다.
+ *
+ * 카메라, 프레임, 버킷 수 같은 프레임 상태는 한 번만 읽고, 튜브는 WIREFRAME 버퍼를 한 번 받아서 전부 출력합니다.
+ * 선 LOD 블록은 모아 두었다가 마지막에 선 버퍼를 한 번 받아서 출력합니다.
+ * 블록별 조건 (구운 상태, 절두체, 차단 거리, LOD 단계) 은 블록 엔티티 렌더러와 같습니다.
+ */
+public final class TesseractBatchRenderer {
+
+    private static final int EDGE_COUNT = TesseractProjector.TESSERACT_EDGES.length;
+
+    private static final float[] edgeColors = new float[EDGE_COUNT * 3];
+    private static final float[] edgeAlphas = new float[EDGE_COUNT];
+
+    // 블록별 매트릭스 (블록 엔티티 디스패처와 같은 순서로 만듦)
+    private static final Matrix4f entryMatrix = new Matrix4f();
+    private static final Matrix4f positionMatrix = new Matrix4f();
+    private static final Matrix3f normalMatrix = new Matrix3f();
+
+    // 선 LOD로 미뤄 둔 블록들 (위치, 빌보드 각도)
+    private static final LongArrayList linePositions = new LongArrayList();
+    private static final FloatArrayList lineAngles = new FloatArrayList();
+
+    private static final Vector3f linePosition = new Vector3f();
+    private static final Vector3f lineNormal = new Vector3f();
+
+    private static final BlockPos.Mutable scratchPos = new BlockPos.Mutable();
+
+    private TesseractBatchRenderer() {
+    }
+
+    /**
+     * 일괄 렌더링 경로가 켜져 있는지 (켜져 있으면 블록 엔티티 렌더러는 호출되지 않음).
+     */
+    public static boolean isActive() {
+        return TesseractRenderConfig.renderPath == TesseractRenderConfig.RenderPath.BATCHED;
+    }
+
+    /**
+     * 월드 렌더 이벤트 (AFTER_ENTITIES) 에서 호출됩니다. 보이는 테서랙트들을 모두 그립니다.
+     */
+    public static void render(WorldRenderContext context) {
+        if (!isActive()) return;
+
+        long start = System.nanoTime();
+        try {
+            renderVisible(context);
+        } finally {
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static void renderVisible(WorldRenderContext context) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        VertexConsumerProvider consumers = context.consumers();
+        if (client.world == null || consumers == null) return;
+
+        LongSet loaded = TesseractBakedFallback.getLoadedPositions();
+        if (loaded.isEmpty()) return;
+
+        // 프레임 상태는 한 번만 읽음
+        MatrixStack.Entry view = context.matrixStack().peek();
+        Matrix4f viewMatrix = view.getPositionMatrix();
+        Vec3d camera = context.camera().getPos();
+        long frame = TesseractAnimationClock.getFrame();
+        int bucketCount = TesseractRenderConfig.phaseBuckets;
+        // 튜브 출력기는 블록 엔티티 렌더러와 공유 (둘 다 렌더 스레드)
+        CylinderTubeEmitter tubeEmitter = TesseractBlockEntityRenderer.getTubeEmitter();
+        boolean keyframeTubes = TesseractBlockEntityRenderer.usesKeyframeTubes(tubeEmitter);
+        double cutoff = TesseractRenderConfig.lodCutoffDistance;
+        CylinderTubeEmitter fullEmitter = TesseractBlockEntityRenderer.getFullTubeEmitter();
+        CylinderTubeEmitter reducedEmitter = TesseractBlockEntityRenderer.getReducedTubeEmitter();
+        boolean translucent = TesseractRenderConfig.translucentEdges;
+
+        linePositions.clear();
+        lineAngles.clear();
+        VertexConsumer wireframe = null;
+        VertexConsumer impostors = null;
+        boolean useImpostors = TesseractImpostors.isEnabled();
+
+        LongIterator iterator = loaded.iterator();
+        while (iterator.hasNext()) {
+            BlockPos pos = scratchPos.set(iterator.nextLong());
+
+            if (TesseractBakedFallback.isBaked(pos)) continue;
+            if (!TesseractCulling.isVisible(pos, TesseractBlockEntityRenderer.RENDER_EXTENT)) continue;
+
+            double distanceSq = camera.squaredDistanceTo(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+            if (distanceSq >= cutoff * cutoff) continue;
+
+            try {
+                TesseractLod.Tier tier = TesseractLod.select(pos, distanceSq);
+                float billboardAngle = TesseractBlockEntityRenderer.getBillboardAngle(client, pos);
+                if (tier == TesseractLod.Tier.LINES && useImpostors
+                        && TesseractImpostors.hasTile(TesseractBlockEntityRenderer.getPhaseBucket(pos, bucketCount))) {
+                    // 임포스터는 전용 버퍼가 있으므로 WIREFRAME 출력을 끊지 않음 (타일이 아직 없으면 아래의 선으로)
+                    if (impostors == null) {
+                        impostors = consumers.getBuffer(TesseractRenderLayers.IMPOSTOR);
+                    }
+                    entryMatrix.set(viewMatrix).translate(
+                            (float) (pos.getX() - camera.x), (float) (pos.getY() - camera.y), (float) (pos.getZ() - camera.z));
+                    TesseractImpostors.emit(impostors, entryMatrix,
+                            TesseractBlockEntityRenderer.getPhaseBucket(pos, bucketCount));
+                    continue;
+                }
+                if (tier == TesseractLod.Tier.LINES) {
+                    // 선 레이어로 바꾸면 WIREFRAME 출력이 끊기므로 마지막에 한 번에
+                    linePositions.add(pos.asLong());
+                    lineAngles.add(billboardAngle);
+                    continue;
+                }
+
+                if (wireframe == null) {
+                    wireframe = consumers.getBuffer(translucent
+                            ? TesseractRenderLayers.WIREFRAME_TRANSLUCENT : TesseractRenderLayers.WIREFRAME);
+                }
+
+                entryMatrix.set(viewMatrix).translate(
+                        (float) (pos.getX() - camera.x), (float) (pos.getY() - camera.y), (float) (pos.getZ() - camera.z));
+
+                // 시간 LOD로 갱신 주기 동안 GPU에 올려 둔 튜브는 기록만 하고, 작업 스레드가 미리 계산해 둔 튜브가 있으면 복사만 함
+                TesseractTemporalLod.Stream stream = TesseractBlockEntityRenderer.getTemporalStream(pos, distanceSq, tier);
+                if (stream != null && stream.isCurrent()) {
+                    stream.draw(entryMatrix);
+                    continue;
+                }
+                if (TesseractParallelPrecompute.emit(pos, entryMatrix, wireframe, tubeEmitter, stream)) continue;
+
+                positionMatrix.set(entryMatrix).translate(0.5f, 0.5f, 0.5f);
+                if (billboardAngle != 0.0f) {
+                    positionMatrix.rotateY(billboardAngle);
+                }
+
+                int bucket = TesseractBlockEntityRenderer.getPhaseBucket(pos, bucketCount);
+                float time = TesseractAnimationClock.getBlockTime(bucket, bucketCount);
+                TesseractBlockEntityRenderer.fillEdgeColors(time, edgeColors);
+
+                if (tier == TesseractLod.Tier.FULL && keyframeTubes) {
+                    float[] tubeRings = TesseractProjector.BLOCK.getKeyframeTubeRings(bucket, frame, time);
+                    if (stream != null) {
+                        TesseractBlockEntityRenderer.emitIntoStream(tubeEmitter, entryMatrix,
+                                billboardAngle, null, tubeRings, edgeColors, stream);
+                    } else {
+                        tubeEmitter.emitEdgeRings(wireframe, positionMatrix, tubeRings, EDGE_COUNT, edgeColors, 1f);
+                    }
+                } else {
+                    Vector3f[] projectedVertices = TesseractProjector.BLOCK.getProjectedVertices(bucket, frame, time);
+                    CylinderTubeEmitter emitter = tier == TesseractLod.Tier.REDUCED ? reducedEmitter : fullEmitter;
+                    if (translucent) {
+                        TesseractBlockEntityRenderer.fillEdgeAlphas(TesseractProjector.TESSERACT_EDGES,
+                                TesseractProjector.BLOCK.getVertexDepths(bucket, frame, time),
+                                TesseractProjector.BLOCK.getMaxVertexNorm(), edgeAlphas);
+                        emitter.emitEdgesBackToFront(wireframe, positionMatrix, projectedVertices,
+                                TesseractProjector.TESSERACT_EDGES, edgeColors, edgeAlphas);
+                    } else if (stream != null) {
+                        TesseractBlockEntityRenderer.emitIntoStream(emitter, entryMatrix,
+                                billboardAngle, projectedVertices, null, edgeColors, stream);
+                    } else {
+                        emitter.emitEdges(wireframe, positionMatrix, projectedVertices,
+                                TesseractProjector.TESSERACT_EDGES, edgeColors, 1f);
+                    }
+                }
+            } catch (Exception e) {
+                // 렌더링 오류 발생 시 해당 블록만 건너뜀 (처음 한 번만 로그)
+                TesseractDebugValidation.reportFailure("TesseractBatchRenderer", e);
+            }
+        }
+
+        if (!linePositions.isEmpty()) {
+            renderLines(consumers, view, camera, frame, bucketCount);
+        }
+    }
+
+    private static void renderLines(VertexConsumerProvider consumers, MatrixStack.Entry view, Vec3d camera,
+                                    long frame, int bucketCount) {
+        VertexConsumer lines = consumers.getBuffer(RenderLayer.getLines());
+
+        for (int i = 0; i < linePositions.size(); i++) {
+            BlockPos pos = scratchPos.set(linePositions.getLong(i));
+            float billboardAngle = lineAngles.getFloat(i);
+
+            try {
+                positionMatrix.set(view.getPositionMatrix()).translate(
+                        (float) (pos.getX() - camera.x), (float) (pos.getY() - camera.y), (float) (pos.getZ() - camera.z))
+                        .translate(0.5f, 0.5f, 0.5f);
+                normalMatrix.set(view.getNormalMatrix());
+                if (billboardAngle != 0.0f) {
+                    positionMatrix.rotateY(billboardAngle);
+                    normalMatrix.rotateY(billboardAngle);
+                }
+
+                int bucket = TesseractBlockEntityRenderer.getPhaseBucket(pos, bucketCount);
+                float time = TesseractAnimationClock.getBlockTime(bucket, bucketCount);
+                TesseractBlockEntityRenderer.fillEdgeColors(time, edgeColors);
+
+                Vector3f[] projectedVertices = TesseractProjector.BLOCK.getProjectedVertices(bucket, frame, time);
+                TesseractBlockEntityRenderer.emitLineEdges(lines, positionMatrix, normalMatrix, projectedVertices,
+                        TesseractProjector.TESSERACT_EDGES, edgeColors, linePosition, lineNormal);
+            } catch (Exception e) {
+                // 렌더링 오류 발생 시 해당 블록만 건너뜀 (처음 한 번만 로그)
+                TesseractDebugValidation.reportFailure("TesseractBatchRenderer", e);
+            }
+        }
+
+        linePositions.clear();
+        lineAngles.clear();
+    }
+}
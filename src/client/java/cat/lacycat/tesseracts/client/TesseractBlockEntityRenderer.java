@@ -1,90 +1,79 @@
 package cat.lacycat.tesseracts.client;
 
 import cat.lacycat.tesseracts.TesseractBlockEntity;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory;
 import net.minecraft.client.util.math.MatrixStack;
-import net.minecraft.util.math.RotationAxis;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
 import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
-import org.joml.Vector4f;
 
 import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.render.RenderLayer;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 public class TesseractBlockEntityRenderer implements BlockEntityRenderer<TesseractBlockEntity> {
 
-    // 4D 테서렉트의 정점들 (4차원 좌표) - static final로 메모리 효율성 향상
-    private static final Vector4f[] TESSERACT_VERTICES = {
-            // 첫 번째 큐브 (w = -0.5)
-            new Vector4f(-0.5f, -0.5f, -0.5f, -0.5f), // 0
-            new Vector4f( 0.5f, -0.5f, -0.5f, -0.5f), // 1
-            new Vector4f( 0.5f,  0.5f, -0.5f, -0.5f), // 2
-            new Vector4f(-0.5f,  0.5f, -0.5f, -0.5f), // 3
-            new Vector4f(-0.5f, -0.5f,  0.5f, -0.5f), // 4
-            new Vector4f( 0.5f, -0.5f,  0.5f, -0.5f), // 5
-            new Vector4f( 0.5f,  0.5f,  0.5f, -0.5f), // 6
-            new Vector4f(-0.5f,  0.5f,  0.5f, -0.5f), // 7
-
-            // 두 번째 큐브 (w = 0.5)
-            new Vector4f(-0.5f, -0.5f, -0.5f,  0.5f), // 8
-            new Vector4f( 0.5f, -0.5f, -0.5f,  0.5f), // 9
-            new Vector4f( 0.5f,  0.5f, -0.5f,  0.5f), // 10
-            new Vector4f(-0.5f,  0.5f, -0.5f,  0.5f), // 11
-            new Vector4f(-0.5f, -0.5f,  0.5f,  0.5f), // 12
-            new Vector4f( 0.5f, -0.5f,  0.5f,  0.5f), // 13
-            new Vector4f( 0.5f,  0.5f,  0.5f,  0.5f), // 14
-            new Vector4f(-0.5f,  0.5f,  0.5f,  0.5f)  // 15
-    };
-
-    // 테서렉트의 모서리들
-    private static final int[][] TESSERACT_EDGES = {
-            // 첫 번째 큐브의 모서리들
-            {0, 1}, {1, 2}, {2, 3}, {3, 0}, // 아래 면
-            {4, 5}, {5, 6}, {6, 7}, {7, 4}, // 위 면
-            {0, 4}, {1, 5}, {2, 6}, {3, 7}, // 수직 모서리들
-
-            // 두 번째 큐브의 모서리들
-            {8, 9}, {9, 10}, {10, 11}, {11, 8}, // 아래 면
-            {12, 13}, {13, 14}, {14, 15}, {15, 12}, // 위 면
-            {8, 12}, {9, 13}, {10, 14}, {11, 15}, // 수직 모서리들
-
-            // 두 큐브를 연결하는 모서리들
-            {0, 8}, {1, 9}, {2, 10}, {3, 11},
-            {4, 12}, {5, 13}, {6, 14}, {7, 15}
-    };
-
-    // 재사용 가능한 객체들로 GC 압박 줄이기
-    private final Vector4f tempVector4f = new Vector4f();
-    private final Matrix4f tempMatrix = new Matrix4f();
-    private final Vector3f[] projectedVertices = new Vector3f[TESSERACT_VERTICES.length];
-
-    // 캐시된 회전 매트릭스들
-    private final Matrix4f[] rotationMatrices = new Matrix4f[6];
+    // MatrixStack.push()는 매번 엔트리를 할당하므로 블록별 매트릭스는 직접 계산
+    private final Matrix4f blockPositionMatrix = new Matrix4f();
+    private final Matrix3f blockNormalMatrix = new Matrix3f();
 
     // 원기둥 렌더링을 위한 상수들
-    private static final int CYLINDER_SEGMENTS = 8; // 원기둥의 둘레 분할 수
-    private static final float CYLINDER_RADIUS = 0.02f; // 원기둥 반지름
+    static final int CYLINDER_SEGMENTS = 8; // 원기둥의 둘레 분할 수 (인스턴싱 메시도 같은 값 사용)
+    static final float CYLINDER_RADIUS = 0.02f; // 원기둥 반지름
+
+    // 투영된 테서랙트의 최대 반크기 (약 0.29블록 - 블록 경계 상자 안에 들어감)
+    static final float RENDER_EXTENT = TesseractProjector.BLOCK.getMaxExtent(CYLINDER_RADIUS);
+    // 디버그 검증에서 투영된 꼭짓점 좌표의 허용 범위
+    private static final float VERTEX_LIMIT = 100.0f;
+
+    // 반투명 모드에서 4D로 가장 가까운/먼 모서리의 알파
+    private static final float TRANSLUCENT_NEAR_ALPHA = 0.85f;
+    private static final float TRANSLUCENT_FAR_ALPHA = 0.2f;
+
+    // 렌더 스레드의 튜브 출력기 - 블록 엔티티 렌더러와 일괄 렌더러가 함께 씀 (getTubeEmitter() 등)
+    private static final CylinderTubeEmitter tubeEmitter = new CylinderTubeEmitter(CYLINDER_SEGMENTS, CYLINDER_RADIUS);
+    // 품질 조절기가 가까운 튜브의 세그먼트 수를 줄였을 때용, 중간 거리 LOD용 (세그먼트 수가 바뀌면 다시 만듦)
+    private static CylinderTubeEmitter governedTubeEmitter;
+    private static CylinderTubeEmitter reducedTubeEmitter;
+    // 시간 LOD 스트림 갱신용 스크래치 (블록 로컬 매트릭스와 정점) - 렌더 스레드 전용
+    private static final Matrix4f streamMatrix = new Matrix4f();
+    private static ByteBuffer streamScratch = ByteBuffer.allocate(0);
+
+    // 모서리별 색상 (r, g, b 반복)
+    private final float[] edgeColors = new float[TesseractProjector.TESSERACT_EDGES.length * 3];
+    // 반투명 모드의 모서리별 알파
+    private final float[] edgeAlphas = new float[TesseractProjector.TESSERACT_EDGES.length];
+
+    // 클러스터 렌더링용 스크래치 (멤버 매트릭스, 위치, 마지막에 그릴 선 LOD 멤버)
+    private final Matrix4f clusterMatrix = new Matrix4f();
+    private final BlockPos.Mutable memberPos = new BlockPos.Mutable();
+    private final LongArrayList clusterLineMembers = new LongArrayList();
+    // 클러스터 튜브 템플릿 ((위상 버킷, LOD 단계) -> 첫 멤버 위치에서 만든 정점) 과 클러스터를 그린 횟수 (템플릿 유효성)
+    private final Int2ObjectOpenHashMap<ClusterTemplate> clusterTemplates = new Int2ObjectOpenHashMap<>();
+    private long clusterPass = 0;
+    private ByteBuffer clusterScratch = ByteBuffer.allocate(0);
+
+    // 선 LOD 정점 변환용 스크래치
+    private final Vector3f linePosition = new Vector3f();
+    private final Vector3f lineNormal = new Vector3f();
 
     public TesseractBlockEntityRenderer(BlockEntityRendererFactory.Context ctx) {
-        // 투영된 정점 배열 초기화
-        for (int i = 0; i < projectedVertices.length; i++) {
-            projectedVertices[i] = new Vector3f();
-        }
-
-        // 회전 매트릭스 배열 초기화
-        for (int i = 0; i < rotationMatrices.length; i++) {
-            rotationMatrices[i] = new Matrix4f();
-        }
     }
 
     @Override
     public void render(TesseractBlockEntity entity, float tickDelta, MatrixStack matrices,
                        VertexConsumerProvider vertexConsumers, int light, int overlay) {
-        int lightValue = 0xF000F0;
         // null 체크 추가
         if (entity == null || entity.getWorld() == null) {
             return;
@@ -96,291 +85,494 @@ public class TesseractBlockEntityRenderer implements BlockEntityRenderer<Tessera
             return;
         }
 
-        // try-catch로 렌더링 오류 방지
+        BlockPos pos = entity.getPos();
+        MatrixStack.Entry entry = matrices.peek();
+        long start = System.nanoTime();
         try {
-            matrices.push();
-            matrices.translate(0.5f, 0.5f, 0.5f);
-
-            // 시간 계산 최적화 및 안전장치
-            long worldTime = entity.getWorld().getTime();
-            float time = (worldTime + tickDelta) * 0.01f; // 회전 속도를 더 느리게
-
-            // 플레이어 위치 기반 회전 (null 체크 추가)
-            if (client.player != null) {
-                double dx = client.player.getX() - (entity.getPos().getX() + 0.5);
-                double dz = client.player.getZ() - (entity.getPos().getZ() + 0.5);
-
-                // 거리가 너무 가까우면 회전하지 않음 (NaN 방지)
-                if (dx * dx + dz * dz > 0.01) {
-                    float angle = (float) Math.atan2(dz, dx);
-                    if (Float.isFinite(angle)) {
-                        matrices.multiply(RotationAxis.POSITIVE_Y.rotation(angle));
-                    }
+            // 맞닿은 테서랙트 클러스터는 메인 렌더 패스에서 이번 프레임에 먼저 도착한 멤버가 한 번에 그리고 나머지는 건너뜀
+            // 이번 프레임의 뷰로 만든 매트릭스와 다르면 (다른 렌더 패스) 멤버들이 각자 그림
+            TesseractClusters.Cluster cluster = TesseractClusters.getCluster(pos);
+            if (cluster != null && TesseractClusters.getBlockMatrix(pos, clusterMatrix)
+                    && TesseractClusters.isSameBlockMatrix(clusterMatrix, entry.getPositionMatrix())) {
+                if (cluster.claim(TesseractAnimationClock.getFrame())) {
+                    renderCluster(client, cluster, entry.getNormalMatrix(), vertexConsumers);
                 }
+                return;
             }
 
-            // 4D 회전 매트릭스들을 미리 계산하고 재사용
-            createSafeRotationMatrices(time);
+            renderBlock(client, pos, entry.getPositionMatrix(), entry.getNormalMatrix(), vertexConsumers, false);
+        } finally {
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
 
-            // 모든 4D 회전을 결합 (안전하게)
-            Matrix4f totalRotation = tempMatrix.identity();
-            for (Matrix4f rotMatrix : rotationMatrices) {
-                if (rotMatrix != null && isMatrixValid(rotMatrix)) {
-                    totalRotation.mul(rotMatrix);
-                }
+    // 클러스터의 멤버들을 한 번에 그림 - 튜브는 (위상 버킷, LOD 단계)마다 한 번만 만들고 멤버마다 평행이동해서 복사
+    // 선 LOD 멤버는 레이어 전환을 줄이려고 마지막에 모아서
+    private void renderCluster(MinecraftClient client, TesseractClusters.Cluster cluster, Matrix3f normalMatrix,
+                               VertexConsumerProvider vertexConsumers) {
+        Vec3d camera = client.gameRenderer.getCamera().getPos();
+        double cutoff = TesseractRenderConfig.lodCutoffDistance;
+        // 반투명 모드는 블록마다 모서리를 정렬하고 인스턴싱 경로는 인스턴스만 기록하므로 멤버별로 그림
+        boolean shareTubes = !TesseractRenderConfig.translucentEdges && !TesseractInstancedRenderer.isActive();
+        clusterLineMembers.clear();
+        clusterPass++;
+
+        LongIterator iterator = cluster.getMembers().iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.nextLong();
+            BlockPos pos = memberPos.set(key);
+            double distanceSq = camera.squaredDistanceTo(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+            if (distanceSq >= cutoff * cutoff) continue;
+
+            TesseractClusters.getBlockMatrix(pos, clusterMatrix);
+            if (shareTubes && emitSharedTubes(client, cluster, pos, distanceSq, vertexConsumers)) continue;
+
+            if (renderBlock(client, pos, clusterMatrix, normalMatrix, vertexConsumers, true)) {
+                clusterLineMembers.add(key);
             }
+        }
 
-            // 회전된 정점들을 3D로 투영 (기존 배열 재사용)
-            projectVerticesSafely(totalRotation);
-
-            // 원기둥 모서리들을 렌더링 (투명도 적용)
-            renderCylindricalEdges(matrices, vertexConsumers, time, lightValue);
-
-        } catch (Exception e) {
-            // 렌더링 오류 발생 시 로그만 남기고 크래시 방지
-            // System.err.println("Tesseract rendering error: " + e.getMessage());
-        } finally {
-            matrices.pop();
+        for (int i = 0; i < clusterLineMembers.size(); i++) {
+            BlockPos pos = memberPos.set(clusterLineMembers.getLong(i));
+            TesseractClusters.getBlockMatrix(pos, clusterMatrix);
+            renderBlock(client, pos, clusterMatrix, normalMatrix, vertexConsumers, false);
         }
     }
 
-    private void createSafeRotationMatrices(float time) {
-        // 회전 속도를 더욱 줄여서 안정성 향상
-        float[] angles = {
-                time * 0.1f, // XY
-                time * 0.08f, // XZ
-                time * 0.12f, // XW
-                time * 0.09f, // YZ
-                time * 0.11f, // YW
-                time * 0.07f  // ZW
-        };
-
-        int[][] axisPairs = {{0,1}, {0,2}, {0,3}, {1,2}, {1,3}, {2,3}};
-
-        for (int i = 0; i < rotationMatrices.length; i++) {
-            try {
-                createSafeRotationMatrix4D(rotationMatrices[i], axisPairs[i][0], axisPairs[i][1], angles[i]);
-            } catch (Exception e) {
-                // 오류 발생 시 단위 행렬로 설정
-                rotationMatrices[i].identity();
+    // 튜브 단계의 클러스터 멤버를 템플릿 복사로 그림 (clusterMatrix = 멤버의 블록 매트릭스)
+    // 템플릿은 클러스터 중심에서 플레이어를 향한 각도로 만들어서 같은 버킷, 같은 단계의 튜브는 뷰 공간에서 평행이동만 다름
+    // 선 단계라서 renderBlock()이 그려야 하면 false
+    private boolean emitSharedTubes(MinecraftClient client, TesseractClusters.Cluster cluster, BlockPos pos,
+                                    double distanceSq, VertexConsumerProvider vertexConsumers) {
+        if (TesseractBakedFallback.isBaked(pos) || !TesseractCulling.isVisible(pos, RENDER_EXTENT)) {
+            return true;
+        }
+
+        TesseractLod.Tier tier = TesseractLod.select(pos, distanceSq);
+        if (tier == TesseractLod.Tier.LINES) return false;
+
+        try {
+            int bucketCount = TesseractRenderConfig.phaseBuckets;
+            int bucket = getPhaseBucket(pos, bucketCount);
+            int templateKey = bucket * 2 + (tier == TesseractLod.Tier.REDUCED ? 1 : 0);
+            ClusterTemplate template = clusterTemplates.get(templateKey);
+            if (template == null) {
+                template = new ClusterTemplate();
+                clusterTemplates.put(templateKey, template);
+            }
+            if (template.pass != clusterPass) {
+                buildClusterTemplate(template, client, cluster, tier, bucket, bucketCount);
             }
+
+            tubeEmitter.emitTranslated(vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME),
+                    template.vertices, template.vertexCount,
+                    clusterMatrix.m30() - template.originX,
+                    clusterMatrix.m31() - template.originY,
+                    clusterMatrix.m32() - template.originZ);
+        } catch (Exception e) {
+            TesseractDebugValidation.reportFailure("TesseractBlockEntityRenderer", e);
         }
+        return true;
     }
 
-    private void projectVerticesSafely(Matrix4f totalRotation) {
-        for (int i = 0; i < TESSERACT_VERTICES.length; i++) {
-            try {
-                tempVector4f.set(TESSERACT_VERTICES[i]);
-                totalRotation.transform(tempVector4f);
+    // 이 멤버 위치에서 버킷의 튜브 정점을 만들어 템플릿에 씀 (원점 = 멤버 블록 매트릭스의 평행이동 부분)
+    private void buildClusterTemplate(ClusterTemplate template, MinecraftClient client, TesseractClusters.Cluster cluster,
+                                      TesseractLod.Tier tier, int bucket, int bucketCount) {
+        float time = TesseractAnimationClock.getBlockTime(bucket, bucketCount);
+        long frame = TesseractAnimationClock.getFrame();
 
-                // 4D에서 3D로 투영 (원근 투영) - 안전장치 강화
-                float w = tempVector4f.w + 2.5f; // w 좌표를 더 크게 조정
-                float scale = 1.0f / Math.max(Math.abs(w), 0.5f); // 최소값을 더 크게 설정
+        Matrix4f positionMatrix = blockPositionMatrix.set(clusterMatrix).translate(0.5f, 0.5f, 0.5f);
+        float billboardAngle = getBillboardAngle(client, cluster.getCenterX(), cluster.getCenterZ());
+        if (billboardAngle != 0.0f) {
+            positionMatrix.rotateY(billboardAngle);
+        }
 
-                // NaN 및 무한대 체크
-                if (!Float.isFinite(scale)) {
-                    scale = 1.0f;
-                }
+        fillEdgeColors(time, edgeColors);
+        int edgeCount = TesseractProjector.TESSERACT_EDGES.length;
+        boolean keyframed = tier == TesseractLod.Tier.FULL && usesKeyframeTubes(tubeEmitter);
+        CylinderTubeEmitter emitter = keyframed ? tubeEmitter
+                : tier == TesseractLod.Tier.REDUCED ? getReducedTubeEmitter() : getFullTubeEmitter();
+        int capacity = edgeCount * emitter.getVerticesPerEdge();
+        if (clusterScratch.capacity() < capacity * CylinderTubeEmitter.VERTEX_SIZE) {
+            clusterScratch = ByteBuffer.allocate(capacity * CylinderTubeEmitter.VERTEX_SIZE).order(ByteOrder.nativeOrder());
+        }
+
+        int vertexCount;
+        if (keyframed) {
+            float[] tubeRings = TesseractProjector.BLOCK.getKeyframeTubeRings(bucket, frame, time);
+            vertexCount = emitter.writeEdgeRings(clusterScratch, positionMatrix, tubeRings, edgeCount, edgeColors, 1f);
+        } else {
+            Vector3f[] projectedVertices = TesseractProjector.BLOCK.getProjectedVertices(bucket, frame, time);
+            vertexCount = emitter.writeEdges(clusterScratch, positionMatrix, projectedVertices,
+                    TesseractProjector.TESSERACT_EDGES, edgeColors, 1f);
+        }
 
-                float x = tempVector4f.x * scale * 0.4f; // 크기를 더 작게
-                float y = tempVector4f.y * scale * 0.4f;
-                float z = tempVector4f.z * scale * 0.4f;
+        if (template.vertices.length < capacity * CylinderTubeEmitter.VERTEX_INTS) {
+            template.vertices = new int[capacity * CylinderTubeEmitter.VERTEX_INTS];
+        }
+        CylinderTubeEmitter.copyVertexInts(clusterScratch, vertexCount, template.vertices);
+        template.vertexCount = vertexCount;
 
-                // 최종 좌표 범위 제한
-                x = Math.max(-2.0f, Math.min(2.0f, x));
-                y = Math.max(-2.0f, Math.min(2.0f, y));
-                z = Math.max(-2.0f, Math.min(2.0f, z));
+        template.originX = clusterMatrix.m30();
+        template.originY = clusterMatrix.m31();
+        template.originZ = clusterMatrix.m32();
+        template.pass = clusterPass;
+    }
 
-                projectedVertices[i].set(x, y, z);
+    /**
+     * 블록 하나의 테서랙트를 그립니다.
+     *
+     * @param entryMatrix 블록 모서리 기준 매트릭스 (블록 엔티티 디스패처가 넘겨주는 것과 같음)
+     * @param deferLines true면 선 LOD 단계일 때 그리지 않고 true를 돌려줌
+     */
+    private boolean renderBlock(MinecraftClient client, BlockPos pos, Matrix4f entryMatrix, Matrix3f entryNormalMatrix,
+                                VertexConsumerProvider vertexConsumers, boolean deferLines) {
+        // 먼 거리에서 청크 메시의 정적 모델로 그려지는 중이면 건너뜀
+        if (TesseractBakedFallback.isBaked(pos)) {
+            return false;
+        }
 
-            } catch (Exception e) {
-                // 오류 발생 시 원점으로 설정
-                projectedVertices[i].set(0, 0, 0);
-            }
+        // 실제 크기 상자가 화면 밖이면 건너뜀 (섹션 단위 컬링은 바닐라가 이미 함)
+        if (!TesseractCulling.isVisible(pos, RENDER_EXTENT)) {
+            return false;
         }
-    }
 
-    private void renderCylindricalEdges(MatrixStack matrices, VertexConsumerProvider vertexConsumers, float time, int light) {
+        // 렌더링 오류는 여기서 한 번만 잡음 (안쪽 단계들은 검사 없이 계산)
         try {
-            // 투명도를 위해 TranslucentLayers 사용
-            VertexConsumer vertexConsumer = vertexConsumers.getBuffer(RenderLayer.getSolid());
-            Matrix4f positionMatrix = matrices.peek().getPositionMatrix();
-            Matrix3f normalMatrix = matrices.peek().getNormalMatrix();
+            Vec3d camera = client.gameRenderer.getCamera().getPos();
 
-            // 색상 계산 안전장치
-            float baseR = 0.6f + 0.3f * (float) Math.sin(time);
-            float baseG = 0.6f + 0.3f * (float) Math.cos(time * 1.1f);
-            float baseB = 0.6f + 0.3f * (float) Math.sin(time * 0.9f);
+            // 카메라 거리에 따른 LOD 단계 (차단 거리 밖은 getRenderDistance()로 디스패처가 걸러냄)
+            double distanceSq = camera.squaredDistanceTo(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+            TesseractLod.Tier tier = TesseractLod.select(pos, distanceSq);
+            if (deferLines && tier == TesseractLod.Tier.LINES && !TesseractInstancedRenderer.isActive()) {
+                return true;
+            }
 
-            for (int edgeIndex = 0; edgeIndex < TESSERACT_EDGES.length; edgeIndex++) {
-                int[] edge = TESSERACT_EDGES[edgeIndex];
+            // 시간 LOD: 먼 블록은 갱신 주기 동안 GPU에 올려 둔 블록 로컬 튜브를 현재 매트릭스로 그리도록 기록만 함
+            TesseractTemporalLod.Stream stream = getTemporalStream(pos, distanceSq, tier);
+            if (stream != null && stream.isCurrent()) {
+                stream.draw(entryMatrix);
+                return false;
+            }
 
-                if (edge.length >= 2 && edge[0] >= 0 && edge[0] < projectedVertices.length
-                        && edge[1] >= 0 && edge[1] < projectedVertices.length) {
+            // 월드 렌더 시작 때 작업 스레드들이 미리 계산해 둔 튜브가 있으면 복사만 함
+            if (TesseractParallelPrecompute.emit(pos, entryMatrix, vertexConsumers, tubeEmitter, stream)) {
+                return false;
+            }
 
-                    Vector3f start = projectedVertices[edge[0]];
-                    Vector3f end = projectedVertices[edge[1]];
+            Matrix4f positionMatrix = blockPositionMatrix.set(entryMatrix).translate(0.5f, 0.5f, 0.5f);
+            Matrix3f normalMatrix = blockNormalMatrix.set(entryNormalMatrix);
+
+            // 프레임 시작 시 한 번 샘플링한 애니메이션 시간 - 같은 위상 버킷의 블록들이 공유
+            int bucketCount = TesseractRenderConfig.phaseBuckets;
+            int bucket = getPhaseBucket(pos, bucketCount);
+            float time = TesseractAnimationClock.getBlockTime(bucket, bucketCount);
+
+            // 플레이어 위치 기반 회전
+            float billboardAngle = getBillboardAngle(client, pos);
+
+            // 인스턴싱 경로: 인스턴스 데이터만 기록하고 그리기는 월드 렌더 이벤트에서 한 번에
+            if (TesseractInstancedRenderer.isActive()) {
+                TesseractInstancedRenderer.addInstance(
+                        (float) (pos.getX() + 0.5 - camera.x),
+                        (float) (pos.getY() + 0.5 - camera.y),
+                        (float) (pos.getZ() + 0.5 - camera.z),
+                        time, billboardAngle);
+                return false;
+            }
 
-                    // null 체크
-                    if (start == null || end == null) continue;
+            // 먼 거리는 아틀라스 타일을 쓰는 임포스터 사각형 하나 (정점 4개), 타일이 아직 없으면 아래의 선으로
+            if (tier == TesseractLod.Tier.LINES && TesseractImpostors.isEnabled()
+                    && TesseractImpostors.hasTile(bucket)) {
+                TesseractImpostors.emit(vertexConsumers.getBuffer(TesseractRenderLayers.IMPOSTOR), entryMatrix, bucket);
+                return false;
+            }
 
-                    // 좌표가 유효한지 확인
-                    if (!isVectorValid(start) || !isVectorValid(end)) continue;
+            if (billboardAngle != 0.0f) {
+                positionMatrix.rotateY(billboardAngle);
+                normalMatrix.rotateY(billboardAngle);
+            }
 
-                    // 색상 변화를 더 안전하게 - 각 모서리마다 다른 색상
-                    float colorVariation = edgeIndex * 0.1f;
-                    float r = Math.max(0.4f, Math.min(1.0f, baseR + colorVariation));
-                    float g = Math.max(0.4f, Math.min(1.0f, baseG + colorVariation));
-                    float b = Math.max(0.4f, Math.min(1.0f, baseB + colorVariation));
+            // 튜브 스트림 키프레임을 쓰면 버킷마다 한 번 만든 링 데이터를 바로 출력
+            if (tier == TesseractLod.Tier.FULL && usesKeyframeTubes(tubeEmitter)) {
+                float[] tubeRings = TesseractProjector.BLOCK.getKeyframeTubeRings(
+                        bucket, TesseractAnimationClock.getFrame(), time);
+                renderKeyframedEdges(positionMatrix, vertexConsumers, tubeRings, time, entryMatrix, billboardAngle, stream);
+                return false;
+            }
 
-                    // 투명도 적용 - 뒤쪽 선도 보이게
-                    float alpha = 1f;
+            // 4D 회전과 투영은 프레임당 버킷마다 한 번만 계산되고 같은 버킷의 블록들이 공유 (블록별로는 Y축 회전만 다름)
+            Vector3f[] projectedVertices = TesseractProjector.BLOCK.getProjectedVertices(
+                    bucket, TesseractAnimationClock.getFrame(), time);
 
-                    // 원기둥 모서리 렌더링
-                    renderCylindricalEdge(vertexConsumer, positionMatrix, normalMatrix,
-                            start, end, r, g, b, alpha, light);
-                }
+            if (tier == TesseractLod.Tier.LINES) {
+                // 멀리서는 모서리마다 선 하나 (원기둥 대비 정점 수 1/16)
+                renderLineEdges(positionMatrix, normalMatrix, vertexConsumers, projectedVertices, time);
+                return false;
             }
+
+            // 원기둥 모서리들을 렌더링
+            CylinderTubeEmitter emitter = tier == TesseractLod.Tier.REDUCED ? getReducedTubeEmitter() : getFullTubeEmitter();
+            renderCylindricalEdges(emitter, positionMatrix, vertexConsumers, projectedVertices, bucket, time,
+                    entryMatrix, billboardAngle, stream);
+
         } catch (Exception e) {
-            // 렌더링 오류 무시
+            // 렌더링 오류 발생 시 처음 한 번만 로그를 남기고 크래시 방지
+            TesseractDebugValidation.reportFailure("TesseractBlockEntityRenderer", e);
         }
+        return false;
     }
 
-    private void renderCylindricalEdge(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Matrix3f normalMatrix,
-                                       Vector3f start, Vector3f end, float r, float g, float b, float alpha, int light) {
+    /**
+     * 시간 LOD가 적용되는 블록이면 스트림을, 매 프레임 새로 그려야 하면 null을 돌려줍니다.
+     * 선, 반투명, 인스턴싱 경로는 스트림을 쓰지 않습니다.
+     */
+    static TesseractTemporalLod.Stream getTemporalStream(BlockPos pos, double distanceSq, TesseractLod.Tier tier) {
+        if (tier == TesseractLod.Tier.LINES || TesseractRenderConfig.translucentEdges
+                || TesseractInstancedRenderer.isActive()) {
+            return null;
+        }
 
-        // 모서리 방향 벡터 계산
-        Vector3f direction = new Vector3f(end).sub(start);
-        float length = direction.length();
+        int segments = tier == TesseractLod.Tier.REDUCED
+                ? TesseractQualityGovernor.getReducedSegments() : TesseractQualityGovernor.getFullSegments();
+        return TesseractTemporalLod.lookup(pos, distanceSq, segments);
+    }
+
+    /**
+     * 튜브를 블록 로컬 공간 (블록 중심 기준, 빌보드 회전 포함) 에서 새로 만들어 스트림의 GPU 버퍼에 올리고
+     * 현재 블록 매트릭스로 그리도록 기록합니다 (시간 LOD 갱신 프레임).
+     *
+     * @param entryMatrix 블록 모서리 기준 매트릭스 (블록 엔티티 디스패처가 넘겨주는 것과 같음)
+     */
+    static void emitIntoStream(CylinderTubeEmitter emitter, Matrix4f entryMatrix,
+                               float billboardAngle, Vector3f[] projectedVertices, float[] tubeRings,
+                               float[] edgeColors, TesseractTemporalLod.Stream stream) {
+        Matrix4f localMatrix = streamMatrix.translation(0.5f, 0.5f, 0.5f);
+        if (billboardAngle != 0.0f) {
+            localMatrix.rotateY(billboardAngle);
+        }
 
-        if (length < 0.001f) return; // 너무 짧은 모서리는 무시
+        int edgeCount = TesseractProjector.TESSERACT_EDGES.length;
+        int capacity = edgeCount * emitter.getVerticesPerEdge() * CylinderTubeEmitter.VERTEX_SIZE;
+        if (streamScratch.capacity() < capacity) {
+            streamScratch = ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+        }
+        int vertexCount = tubeRings != null
+                ? emitter.writeEdgeRings(streamScratch, localMatrix, tubeRings, edgeCount, edgeColors, 1f)
+                : emitter.writeEdges(streamScratch, localMatrix, projectedVertices, TesseractProjector.TESSERACT_EDGES, edgeColors, 1f);
+        stream.upload(emitter, streamScratch, vertexCount);
+        stream.draw(entryMatrix);
+    }
 
-        direction.normalize();
+    private void renderCylindricalEdges(CylinderTubeEmitter emitter, Matrix4f positionMatrix,
+                                        VertexConsumerProvider vertexConsumers, Vector3f[] projectedVertices,
+                                        int bucket, float time, Matrix4f entryMatrix, float billboardAngle,
+                                        TesseractTemporalLod.Stream stream) {
+        if (TesseractRenderConfig.translucentEdges) {
+            // 반투명 모드: w 깊이로 흐려지는 모서리를 뒤에서 앞 순서로 (바닐라 쿼드 정렬 없이)
+            VertexConsumer vertexConsumer = vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME_TRANSLUCENT);
+
+            fillEdgeColors(time, edgeColors);
+            fillEdgeAlphas(TesseractProjector.TESSERACT_EDGES, TesseractProjector.BLOCK.getVertexDepths(bucket, TesseractAnimationClock.getFrame(), time),
+                    TesseractProjector.BLOCK.getMaxVertexNorm(), edgeAlphas);
+            emitter.emitEdgesBackToFront(vertexConsumer, positionMatrix, projectedVertices,
+                    TesseractProjector.TESSERACT_EDGES, edgeColors, edgeAlphas);
+            return;
+        }
 
-        // 원기둥의 축에 수직인 두 벡터 생성
-        Vector3f up = new Vector3f(0, 1, 0);
-        Vector3f right = new Vector3f(direction).cross(up);
+        fillEdgeColors(time, edgeColors);
 
-        // 만약 direction이 up과 평행하면 다른 벡터 사용
-        if (right.lengthSquared() < 0.001f) {
-            up.set(1, 0, 0);
-            right = new Vector3f(direction).cross(up);
+        if (stream != null) {
+            emitIntoStream(emitter, entryMatrix, billboardAngle, projectedVertices, null, edgeColors, stream);
+            return;
         }
 
-        right.normalize();
-        up = new Vector3f(right).cross(direction);
+        // 위치 + 색상 전용 레이어 (항상 최대 밝기라 라이트맵과 법선이 필요 없음)
+        VertexConsumer vertexConsumer = vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME);
 
-        // 원기둥의 둘레 점들 생성 및 렌더링
-        Vector3f[] startCircle = new Vector3f[CYLINDER_SEGMENTS];
-        Vector3f[] endCircle = new Vector3f[CYLINDER_SEGMENTS];
+        // 꼭짓점 16개를 한 번만 변환하고 모든 모서리를 한 번에 출력
+        emitter.emitEdges(vertexConsumer, positionMatrix, projectedVertices,
+                TesseractProjector.TESSERACT_EDGES, edgeColors, 1f);
+    }
 
-        for (int i = 0; i < CYLINDER_SEGMENTS; i++) {
-            float angle = (float) (2 * Math.PI * i / CYLINDER_SEGMENTS);
-            float cos = (float) Math.cos(angle) * CYLINDER_RADIUS;
-            float sin = (float) Math.sin(angle) * CYLINDER_RADIUS;
+    private void renderLineEdges(Matrix4f positionMatrix, Matrix3f normalMatrix, VertexConsumerProvider vertexConsumers,
+                                 Vector3f[] projectedVertices, float time) {
+        VertexConsumer vertexConsumer = vertexConsumers.getBuffer(RenderLayer.getLines());
 
-            // 시작점의 원 위의 점
-            startCircle[i] = new Vector3f(start)
-                    .add(new Vector3f(right).mul(cos))
-                    .add(new Vector3f(up).mul(sin));
+        fillEdgeColors(time, edgeColors);
+        emitLineEdges(vertexConsumer, positionMatrix, normalMatrix, projectedVertices,
+                TesseractProjector.TESSERACT_EDGES, edgeColors,
+                linePosition, lineNormal);
+    }
 
-            // 끝점의 원 위의 점
-            endCircle[i] = new Vector3f(end)
-                    .add(new Vector3f(right).mul(cos))
-                    .add(new Vector3f(up).mul(sin));
+    // 모서리마다 선 하나를 LINES 레이어 형식으로 출력 (디버그 검증 모드에서는 유효하지 않은 꼭짓점의 모서리를 건너뜀)
+    static void emitLineEdges(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Matrix3f normalMatrix,
+                              Vector3f[] projectedVertices, int[][] edges, float[] edgeColors,
+                              Vector3f scratchPosition, Vector3f scratchNormal) {
+        boolean validate = TesseractDebugValidation.isEnabled();
+        for (int edgeIndex = 0; edgeIndex < edges.length; edgeIndex++) {
+            int[] edge = edges[edgeIndex];
+            Vector3f start = projectedVertices[edge[0]];
+            Vector3f end = projectedVertices[edge[1]];
+            if (validate && !(TesseractDebugValidation.isVectorValid(start, VERTEX_LIMIT)
+                    && TesseractDebugValidation.isVectorValid(end, VERTEX_LIMIT))) {
+                TesseractDebugValidation.reportInvalid("TesseractBlockEntityRenderer", "line edge " + edgeIndex);
+                continue;
+            }
+
+            // 선 셰이더는 법선을 선 방향으로 사용
+            normalMatrix.transform(end.x - start.x, end.y - start.y, end.z - start.z, scratchNormal);
+            if (scratchNormal.lengthSquared() < 1.0e-8f) continue;
+            scratchNormal.normalize();
+
+            int colorIndex = edgeIndex * 3;
+            float r = edgeColors[colorIndex];
+            float g = edgeColors[colorIndex + 1];
+            float b = edgeColors[colorIndex + 2];
+            addLineVertex(vertexConsumer, positionMatrix, start, r, g, b, scratchPosition, scratchNormal);
+            addLineVertex(vertexConsumer, positionMatrix, end, r, g, b, scratchPosition, scratchNormal);
         }
+    }
 
-        // 원기둥 표면 렌더링 (사각형들로 구성)
-        for (int i = 0; i < CYLINDER_SEGMENTS; i++) {
-            int next = (i + 1) % CYLINDER_SEGMENTS;
+    private static void addLineVertex(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Vector3f point,
+                                      float r, float g, float b, Vector3f scratchPosition, Vector3f normal) {
+        positionMatrix.transformPosition(point.x, point.y, point.z, scratchPosition);
+        vertexConsumer.vertex(scratchPosition.x, scratchPosition.y, scratchPosition.z)
+                .color(r, g, b, 1f)
+                .normal(normal.x, normal.y, normal.z)
+                .next();
+    }
 
-            // 법선 벡터 계산 (바깥쪽 방향)
-            Vector3f normal = new Vector3f(right).mul((float) Math.cos(2 * Math.PI * i / CYLINDER_SEGMENTS))
-                    .add(new Vector3f(up).mul((float) Math.sin(2 * Math.PI * i / CYLINDER_SEGMENTS)));
+    /**
+     * 기본 세그먼트 수의 튜브 출력기 (키프레임 링 출력과 미리 만든 정점 복사용). 렌더 스레드 전용입니다.
+     */
+    static CylinderTubeEmitter getTubeEmitter() {
+        return tubeEmitter;
+    }
 
-            // 사각형 렌더링 (2개의 삼각형)
-            // 첫 번째 삼각형
-            addVertex(vertexConsumer, positionMatrix, normalMatrix, startCircle[i], normal, r, g, b, alpha, light);
-            addVertex(vertexConsumer, positionMatrix, normalMatrix, endCircle[i], normal, r, g, b, alpha, light);
-            addVertex(vertexConsumer, positionMatrix, normalMatrix, startCircle[next], normal, r, g, b, alpha, light);
+    /**
+     * 가까운 튜브용 출력기. 품질 조절기가 세그먼트 수를 줄였으면 그 수로 만든 것을 돌려줍니다. 렌더 스레드 전용입니다.
+     */
+    static CylinderTubeEmitter getFullTubeEmitter() {
+        int segments = TesseractQualityGovernor.getFullSegments();
+        if (segments == CYLINDER_SEGMENTS) return tubeEmitter;
 
-            // 두 번째 삼각형
-            addVertex(vertexConsumer, positionMatrix, normalMatrix, startCircle[next], normal, r, g, b, alpha, light);
-            addVertex(vertexConsumer, positionMatrix, normalMatrix, endCircle[i], normal, r, g, b, alpha, light);
-            addVertex(vertexConsumer, positionMatrix, normalMatrix, endCircle[next], normal, r, g, b, alpha, light);
+        if (governedTubeEmitter == null || governedTubeEmitter.getSegments() != segments) {
+            governedTubeEmitter = new CylinderTubeEmitter(segments, CYLINDER_RADIUS);
         }
+        return governedTubeEmitter;
     }
 
-    private void addVertex(VertexConsumer vertexConsumer, Matrix4f positionMatrix, Matrix3f normalMatrix,
-                           Vector3f pos, Vector3f normal, float r, float g, float b, float alpha, int light) {
-        vertexConsumer.vertex(positionMatrix, pos.x, pos.y, pos.z)
-                .color(r, g, b, alpha)
-                .texture(0, 0) // UV 좌표
-                .overlay(0)
-                .light(light)
-                .normal(normalMatrix, normal.x, normal.y, normal.z)
-                .next();
+    /**
+     * 중간 거리 LOD용 출력기 (품질 조절기의 세그먼트 수). 렌더 스레드 전용입니다.
+     */
+    static CylinderTubeEmitter getReducedTubeEmitter() {
+        int segments = TesseractQualityGovernor.getReducedSegments();
+        if (reducedTubeEmitter == null || reducedTubeEmitter.getSegments() != segments) {
+            reducedTubeEmitter = new CylinderTubeEmitter(segments, CYLINDER_RADIUS);
+        }
+        return reducedTubeEmitter;
     }
 
-    // 4D 회전 매트릭스 생성 (안전장치 추가)
-    private void createSafeRotationMatrix4D(Matrix4f matrix, int axis1, int axis2, float angle) {
-        matrix.identity();
+    // 튜브 스트림 키프레임을 쓸 수 있는지 (emitter는 전체 세그먼트 튜브용, 품질 조절기가 세그먼트를 줄이면 쓰지 않음)
+    // 반투명 모드는 모서리를 정렬해야 하므로 링 데이터 대신 정점 경로를 씀
+    static boolean usesKeyframeTubes(CylinderTubeEmitter emitter) {
+        return !TesseractRenderConfig.translucentEdges
+                && TesseractRenderConfig.geometrySource == TesseractRenderConfig.GeometrySource.KEYFRAMES
+                && TesseractRenderConfig.keyframeTubes
+                && TesseractQualityGovernor.getFullSegments() == emitter.getSegments()
+                && TesseractProjector.BLOCK.getKeyframeAtlas(emitter).hasTubes();
+    }
+
+    // 블록 중심에서 플레이어를 향하는 Y축 회전 각도 (플레이어가 없거나 너무 가까우면 0)
+    static float getBillboardAngle(MinecraftClient client, BlockPos pos) {
+        return getBillboardAngle(client, pos.getX() + 0.5, pos.getZ() + 0.5);
+    }
+
+    // (centerX, centerZ)에서 플레이어를 향한 Y축 회전 각도 (클러스터 템플릿은 클러스터 중심 기준)
+    static float getBillboardAngle(MinecraftClient client, double centerX, double centerZ) {
+        if (client.player == null) return 0.0f;
+
+        double dx = client.player.getX() - centerX;
+        double dz = client.player.getZ() - centerZ;
 
-        // 각도 범위 제한
-        angle = angle % (float)(2 * Math.PI);
+        // 거리가 너무 가까우면 회전하지 않음 (NaN 방지)
+        if (dx * dx + dz * dz <= 0.01) return 0.0f;
 
-        float cos = (float) Math.cos(angle);
-        float sin = (float) Math.sin(angle);
+        float angle = (float) Math.atan2(dz, dx);
+        return Float.isFinite(angle) ? angle : 0.0f;
+    }
 
-        // NaN 체크
-        if (!Float.isFinite(cos) || !Float.isFinite(sin)) {
-            return; // 단위 행렬 유지
+    // 모서리별 색상을 dest에 씀 (r, g, b 반복) - 각 모서리마다 조금씩 다른 색상
+    static void fillEdgeColors(float time, float[] dest) {
+        float baseR = 0.6f + 0.3f * (float) Math.sin(time);
+        float baseG = 0.6f + 0.3f * (float) Math.cos(time * 1.1f);
+        float baseB = 0.6f + 0.3f * (float) Math.sin(time * 0.9f);
+
+        for (int edgeIndex = 0; edgeIndex < TesseractProjector.TESSERACT_EDGES.length; edgeIndex++) {
+            float colorVariation = edgeIndex * 0.1f;
+            dest[edgeIndex * 3] = Math.max(0.4f, Math.min(1.0f, baseR + colorVariation));
+            dest[edgeIndex * 3 + 1] = Math.max(0.4f, Math.min(1.0f, baseG + colorVariation));
+            dest[edgeIndex * 3 + 2] = Math.max(0.4f, Math.min(1.0f, baseB + colorVariation));
         }
+    }
 
-        // 4x4 매트릭스에서 해당 축들에 대한 회전 설정
-        switch (axis1 * 10 + axis2) {
-            case 1: // XY 회전 (0,1)
-                matrix.m00(cos); matrix.m01(-sin);
-                matrix.m10(sin); matrix.m11(cos);
-                break;
-            case 2: // XZ 회전 (0,2)
-                matrix.m00(cos); matrix.m02(-sin);
-                matrix.m20(sin); matrix.m22(cos);
-                break;
-            case 3: // XW 회전 (0,3)
-                matrix.m00(cos); matrix.m03(-sin);
-                matrix.m30(sin); matrix.m33(cos);
-                break;
-            case 12: // YZ 회전 (1,2)
-                matrix.m11(cos); matrix.m12(-sin);
-                matrix.m21(sin); matrix.m22(cos);
-                break;
-            case 13: // YW 회전 (1,3)
-                matrix.m11(cos); matrix.m13(-sin);
-                matrix.m31(sin); matrix.m33(cos);
-                break;
-            case 23: // ZW 회전 (2,3)
-                matrix.m22(cos); matrix.m23(-sin);
-                matrix.m32(sin); matrix.m33(cos);
-                break;
+    // 반투명 모드의 모서리별 알파를 dest에 씀 - 두 끝점의 평균 w가 클수록 (4D에서 멀수록) 흐림
+    static void fillEdgeAlphas(int[][] edges, float[] vertexDepths, float maxDepth, float[] dest) {
+        float inverseRange = 0.5f / maxDepth;
+        for (int edgeIndex = 0; edgeIndex < edges.length; edgeIndex++) {
+            int[] edge = edges[edgeIndex];
+            float w = (vertexDepths[edge[0]] + vertexDepths[edge[1]]) * 0.5f;
+            float far = Math.max(0.0f, Math.min(1.0f, (w + maxDepth) * inverseRange));
+            dest[edgeIndex] = TRANSLUCENT_NEAR_ALPHA + (TRANSLUCENT_FAR_ALPHA - TRANSLUCENT_NEAR_ALPHA) * far;
         }
     }
 
-    // 매트릭스 유효성 검사
-    private boolean isMatrixValid(Matrix4f matrix) {
-        // 주요 요소들이 finite한지 확인
-        return Float.isFinite(matrix.m00()) && Float.isFinite(matrix.m11()) &&
-                Float.isFinite(matrix.m22()) && Float.isFinite(matrix.m33());
+    private void renderKeyframedEdges(Matrix4f positionMatrix, VertexConsumerProvider vertexConsumers,
+                                      float[] tubeRings, float time, Matrix4f entryMatrix, float billboardAngle,
+                                      TesseractTemporalLod.Stream stream) {
+        fillEdgeColors(time, edgeColors);
+        if (stream != null) {
+            emitIntoStream(tubeEmitter, entryMatrix, billboardAngle, null, tubeRings, edgeColors, stream);
+            return;
+        }
+        tubeEmitter.emitEdgeRings(vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME), positionMatrix, tubeRings,
+                TesseractProjector.TESSERACT_EDGES.length, edgeColors, 1f);
     }
 
-    // 벡터 유효성 검사
-    private boolean isVectorValid(Vector3f vector) {
-        return Float.isFinite(vector.x) && Float.isFinite(vector.y) && Float.isFinite(vector.z) &&
-                Math.abs(vector.x) < 100 && Math.abs(vector.y) < 100 && Math.abs(vector.z) < 100;
+    // 블록 위치로 위상 버킷을 정함 (같은 위치는 항상 같은 버킷)
+    static int getPhaseBucket(BlockPos pos, int bucketCount) {
+        if (bucketCount <= 1) return 0;
+
+        long hash = MathHelper.hashCode(pos.getX(), pos.getY(), pos.getZ());
+        return Math.floorMod((int) (hash ^ (hash >>> 32)), bucketCount);
+    }
+
+    @Override
+    public int getRenderDistance() {
+        return TesseractRenderConfig.lodCutoffDistance;
+    }
+
+    @Override
+    public boolean isInRenderDistance(TesseractBlockEntity blockEntity, Vec3d pos) {
+        // 일괄 렌더링 경로에서는 TesseractBatchRenderer가 모두 그리므로 디스패처가 렌더러 호출 자체를 건너뜀
+        if (TesseractBatchRenderer.isActive()) return false;
+
+        return BlockEntityRenderer.super.isInRenderDistance(blockEntity, pos);
     }
 
     @Override
     public boolean rendersOutsideBoundingBox(TesseractBlockEntity blockEntity) {
-        return true; // 4D 투영으로 인해 경계 박스를 벗어날 수 있음
+        // 4D 투영의 최대 크기가 블록 안에 들어가므로 false - 보이지 않는 청크 섹션의 테서랙트는 아예 제출되지 않음
+        // 클러스터도 보이는 섹션의 멤버가 대신 그리므로 예외가 필요 없음
+        return RENDER_EXTENT > 0.5f;
+    }
+
+    // 클러스터 멤버들이 공유하는 튜브 정점 (WIREFRAME 형식을 int로 읽은 것, 뷰 공간)
+    private static final class ClusterTemplate {
+        int[] vertices = new int[0];
+        int vertexCount;
+        float originX, originY, originZ;
+        long pass = -1;
     }
 }
\ No newline at end of file
@@ -0,0 +1,244 @@
+package cat.lacycat.tesseracts.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3d;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
+
+import java.util.ArrayList;
+
+/**
+ * 맞닿은 블록 테서랙트들의 클러스터 (BlockPos 6방향 연결 요소).
+ *
+ * 두 개 이상인 클러스터는 메인 렌더 패스에서 이번 프레임에 처음 그려지는 멤버가 클러스터 전체를 한 번에 그리고 (claim),
+ * 같은 프레임의 나머지 멤버들은 렌더링을 건너뜁니다. 테서랙트는 자기 블록 안에 들어가므로 보이지 않는 섹션의 멤버는
+ * 어차피 그릴 것이 없고, 보이는 멤버가 하나라도 있으면 그 멤버가 클러스터를 맡습니다.
+ * 블록 엔티티 로드/언로드 때 주변 클러스터만 합치거나 나누므로 전체를 다시 계산하지 않습니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractClusters {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // 같은 렌더 패스의 블록 매트릭스로 볼 허용 오차 (계산 순서에 따른 float 오차만 흡수, 다른 뷰는 훨씬 크게 다름)
+    private static final float MATRIX_TOLERANCE = 1.0e-3f;
+
+    // 블록 위치(BlockPos.asLong) -> 속한 클러스터
+    private static final Long2ObjectOpenHashMap<Cluster> clustersByPos = new Long2ObjectOpenHashMap<>();
+
+    // 이번 프레임의 뷰 매트릭스와 카메라 (블록 엔티티 디스패처와 같은 블록 매트릭스를 만들기 위해)
+    private static final Matrix4f viewMatrix = new Matrix4f();
+    private static Vec3d cameraPos = Vec3d.ZERO;
+    private static long viewFrame = -1;
+
+    private TesseractClusters() {
+    }
+
+    /**
+     * 월드 렌더 이벤트 (AFTER_SETUP) 에서 호출됩니다. 이번 프레임의 뷰 매트릭스와 카메라를 기억합니다.
+     */
+    public static void captureView(WorldRenderContext context) {
+        viewMatrix.set(context.matrixStack().peek().getPositionMatrix());
+        cameraPos = context.camera().getPos();
+        viewFrame = TesseractAnimationClock.getFrame();
+    }
+
+    /**
+     * 이 블록이 속한 두 개 이상의 클러스터 (클러스터 렌더링이 꺼져 있거나 혼자면 null).
+     */
+    public static Cluster getCluster(BlockPos pos) {
+        if (!TesseractRenderConfig.clusterRendering) return null;
+
+        Cluster cluster = clustersByPos.get(pos.asLong());
+        return cluster != null && cluster.members.size() > 1 ? cluster : null;
+    }
+
+    /**
+     * 블록 위치의 블록 엔티티 매트릭스를 디스패처와 같은 순서로 dest에 만듭니다.
+     * 이번 프레임의 뷰를 모르면 false를 돌려줍니다.
+     */
+    static boolean getBlockMatrix(BlockPos pos, Matrix4f dest) {
+        if (viewFrame != TesseractAnimationClock.getFrame()) return false;
+
+        Vec3d camera = cameraPos;
+        dest.set(viewMatrix).translate(
+                (float) (pos.getX() - camera.x), (float) (pos.getY() - camera.y), (float) (pos.getZ() - camera.z));
+        return true;
+    }
+
+    /**
+     * 두 블록 매트릭스가 이번 프레임의 같은 뷰와 블록 위치로 만든 것인지 (정확히 같지 않아도 허용 오차 안이면 같음).
+     */
+    static boolean isSameBlockMatrix(Matrix4fc a, Matrix4fc b) {
+        return a.equals(b, MATRIX_TOLERANCE);
+    }
+
+    public static void onLoad(BlockPos pos) {
+        long key = pos.asLong();
+        if (clustersByPos.containsKey(key)) return;
+
+        // 이웃 클러스터들 중 가장 큰 것에 합침 (옮겨 담는 멤버 수를 줄임)
+        Cluster target = null;
+        ArrayList<Cluster> neighbours = new ArrayList<>(DIRECTIONS.length);
+        for (Direction direction : DIRECTIONS) {
+            Cluster neighbour = clustersByPos.get(BlockPos.offset(key, direction));
+            if (neighbour == null || neighbours.contains(neighbour)) continue;
+
+            neighbours.add(neighbour);
+            if (target == null || neighbour.members.size() > target.members.size()) {
+                target = neighbour;
+            }
+        }
+
+        if (target == null) {
+            Cluster single = new Cluster();
+            single.add(key);
+            clustersByPos.put(key, single);
+            return;
+        }
+
+        for (Cluster neighbour : neighbours) {
+            if (neighbour == target) continue;
+
+            LongIterator iterator = neighbour.members.iterator();
+            while (iterator.hasNext()) {
+                long member = iterator.nextLong();
+                target.add(member);
+                clustersByPos.put(member, target);
+            }
+        }
+
+        target.add(key);
+        clustersByPos.put(key, target);
+    }
+
+    public static void onUnload(BlockPos pos) {
+        long key = pos.asLong();
+        Cluster cluster = clustersByPos.remove(key);
+        if (cluster == null) return;
+
+        cluster.members.remove(key);
+        if (!cluster.members.isEmpty()) {
+            split(cluster, key);
+        }
+    }
+
+    // 블록이 빠진 클러스터를 연결 요소별로 다시 나눔 (빠진 블록의 이웃에서 시작하는 탐색만)
+    private static void split(Cluster cluster, long removed) {
+        LongOpenHashSet remaining = new LongOpenHashSet(cluster.members);
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        boolean first = true;
+
+        for (Direction direction : DIRECTIONS) {
+            long start = BlockPos.offset(removed, direction);
+            if (!remaining.contains(start)) continue;
+
+            LongArrayList component = new LongArrayList();
+            remaining.remove(start);
+            queue.enqueue(start);
+            while (!queue.isEmpty()) {
+                long current = queue.dequeueLong();
+                component.add(current);
+                for (Direction next : DIRECTIONS) {
+                    long neighbour = BlockPos.offset(current, next);
+                    if (remaining.remove(neighbour)) {
+                        queue.enqueue(neighbour);
+                    }
+                }
+            }
+
+            if (first && remaining.isEmpty()) {
+                // 나뉘지 않음 - 경계 상자만 다시 계산
+                cluster.updateBounds();
+                return;
+            }
+            first = false;
+
+            Cluster part = new Cluster();
+            for (int i = 0; i < component.size(); i++) {
+                long member = component.getLong(i);
+                part.add(member);
+                clustersByPos.put(member, part);
+            }
+        }
+    }
+
+    /**
+     * 맞닿은 테서랙트들의 연결 요소 하나.
+     */
+    public static final class Cluster {
+        final LongOpenHashSet members = new LongOpenHashSet();
+
+        // 클러스터를 마지막으로 그린 (claim한) 프레임
+        long drawnFrame = -1;
+
+        // 멤버 블록 좌표의 경계 상자 (블록 단위, 양 끝 포함)
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+
+        Cluster() {
+        }
+
+        public LongSet getMembers() {
+            return members;
+        }
+
+        /**
+         * 이번 프레임에 클러스터를 그릴 멤버로 나섭니다. 같은 프레임에 이미 다른 멤버가 그렸으면 false를 돌려줍니다.
+         */
+        public boolean claim(long frame) {
+            if (drawnFrame == frame) return false;
+
+            drawnFrame = frame;
+            return true;
+        }
+
+        /**
+         * 멤버 블록 중심들의 경계 상자 중심 (공유 튜브 템플릿의 빌보드 회전 기준점).
+         */
+        public double getCenterX() {
+            return (minX + maxX) * 0.5 + 0.5;
+        }
+
+        public double getCenterZ() {
+            return (minZ + maxZ) * 0.5 + 0.5;
+        }
+
+        void add(long key) {
+            members.add(key);
+            expand(key);
+        }
+
+        void updateBounds() {
+            minX = minY = minZ = Integer.MAX_VALUE;
+            maxX = maxY = maxZ = Integer.MIN_VALUE;
+            LongIterator iterator = members.iterator();
+            while (iterator.hasNext()) {
+                expand(iterator.nextLong());
+            }
+        }
+
+        private void expand(long key) {
+            int x = BlockPos.unpackLongX(key);
+            int y = BlockPos.unpackLongY(key);
+            int z = BlockPos.unpackLongZ(key);
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            minZ = Math.min(minZ, z);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            maxZ = Math.max(maxZ, z);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.client.mixin.FrustumInvoker;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.render.Frustum;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * 블록 테서랙트의 절두체 컬링. 청크 섹션 단위 컬링(절두체 + 가림)은 바닐라가 하고,
+ * 여기서는 블록 안쪽의 실제 크기 상자로 블록 하나씩 한 번 더 검사합니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractCulling {
+
+    // 이번 프레임의 절두체 (지형 설정 이후에 갱신)
+    private static Frustum frustum;
+
+    private TesseractCulling() {
+    }
+
+    public static void captureFrustum(WorldRenderContext context) {
+        frustum = context.frustum();
+    }
+
+    /**
+     * 블록 중심에서 extent 반크기인 상자가 절두체 안에 있는지. 절두체를 모르면 true.
+     */
+    public static boolean isVisible(BlockPos pos, float extent) {
+        Frustum current = frustum;
+        if (current == null) return true;
+
+        double centerX = pos.getX() + 0.5;
+        double centerY = pos.getY() + 0.5;
+        double centerZ = pos.getZ() + 0.5;
+        return ((FrustumInvoker) current).tesseracts$isVisible(
+                centerX - extent, centerY - extent, centerZ - extent,
+                centerX + extent, centerY + extent, centerZ + extent);
+    }
+
+    /**
+     * 월드 좌표 상자가 절두체 안에 있는지. 절두체를 모르면 true.
+     */
+    public static boolean isBoxVisible(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        Frustum current = frustum;
+        if (current == null) return true;
+
+        return ((FrustumInvoker) current).tesseracts$isVisible(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+}
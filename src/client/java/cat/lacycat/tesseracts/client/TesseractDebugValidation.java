@@ -0,0 +1,102 @@
+package cat.lacycat.tesseracts.client;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.BoolArgumentType;
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandManager;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.minecraft.command.CommandRegistryAccess;
+import net.minecraft.text.Text;
+import org.joml.Vector3f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 테서랙트 기하 계산의 디버그 검증 모드.
+ *
+ * 기본 (릴리스) 모드에서는 투영기와 튜브 출력기가 생성 시 증명한 입력을 믿고 검사 없이 계산합니다.
+ * 디버그 모드에서는 매트릭스, 정점, 모서리마다 예전의 방어적 검사를 다시 켜고, 처음 실패한 검사나 예외를 로그에 남깁니다.
+ * 설정 파일 (debug-validation) 이나 클라이언트 명령 /tesseracts debug-validation [true|false] 로 바꿉니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractDebugValidation {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    // 이번 모드 전환 이후 실패를 이미 로그에 남겼는지, 몇 번 실패했는지
+    private static boolean failureLogged = false;
+    private static int failureCount = 0;
+
+    private TesseractDebugValidation() {
+    }
+
+    /**
+     * 디버그 검증이 켜져 있는지.
+     */
+    public static boolean isEnabled() {
+        return TesseractRenderConfig.debugValidation;
+    }
+
+    /**
+     * 디버그 검증을 켜거나 끕니다. 다음 실패를 다시 로그에 남깁니다.
+     */
+    public static void setEnabled(boolean enabled) {
+        if (failureCount > 0) {
+            LOGGER.info("Tesseract geometry validation saw {} failure(s) since the last toggle", failureCount);
+        }
+        TesseractRenderConfig.debugValidation = enabled;
+        failureLogged = false;
+        failureCount = 0;
+        LOGGER.info("Tesseract debug validation {}", enabled ? "enabled" : "disabled");
+    }
+
+    /**
+     * 렌더링 중 예외를 알립니다. 렌더링은 계속되고 처음 한 번만 로그에 남깁니다 (스택 추적은 디버그 모드에서만).
+     */
+    public static void reportFailure(String where, Throwable error) {
+        failureCount++;
+        if (failureLogged) return;
+
+        failureLogged = true;
+        if (isEnabled()) {
+            LOGGER.error("Tesseract rendering failed in {}", where, error);
+        } else {
+            LOGGER.warn("Tesseract rendering failed in {}: {} (enable debug validation for details)", where, error.toString());
+        }
+    }
+
+    /**
+     * 디버그 모드의 검사가 실패했음을 알립니다. 처음 한 번만 로그에 남깁니다.
+     */
+    public static void reportInvalid(String where, String detail) {
+        failureCount++;
+        if (failureLogged) return;
+
+        failureLogged = true;
+        LOGGER.error("Tesseract geometry validation failed in {}: {}", where, detail);
+    }
+
+    /**
+     * 좌표가 모두 유한하고 절댓값이 limit 미만인지.
+     */
+    public static boolean isVectorValid(Vector3f vector, float limit) {
+        return vector != null && Float.isFinite(vector.x) && Float.isFinite(vector.y) && Float.isFinite(vector.z)
+                && Math.abs(vector.x) < limit && Math.abs(vector.y) < limit && Math.abs(vector.z) < limit;
+    }
+
+    public static void registerCommand(CommandDispatcher<FabricClientCommandSource> dispatcher,
+                                       CommandRegistryAccess registryAccess) {
+        dispatcher.register(ClientCommandManager.literal("tesseracts")
+                .then(ClientCommandManager.literal("debug-validation")
+                        .executes(context -> {
+                            context.getSource().sendFeedback(Text.literal(
+                                    "Tesseract debug validation is " + (isEnabled() ? "on" : "off")));
+                            return 1;
+                        })
+                        .then(ClientCommandManager.argument("enabled", BoolArgumentType.bool())
+                                .executes(context -> {
+                                    boolean enabled = BoolArgumentType.getBool(context, "enabled");
+                                    setEnabled(enabled);
+                                    context.getSource().sendFeedback(Text.literal(
+                                            "Tesseract debug validation " + (enabled ? "enabled" : "disabled")));
+                                    return 1;
+                                }))));
+    }
+}
@@ -0,0 +1,194 @@
+package cat.lacycat.tesseracts.client;
+
+import com.mojang.blaze3d.platform.GlConst;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.systems.VertexSorter;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.SimpleFramebuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.Util;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * 먼 거리 테서랙트의 임포스터. 위상 버킷마다 테서랙트 하나를 화면 밖 프레임버퍼 아틀라스의 타일에 그려 두고,
+ * 선 LOD 단계의 블록은 카메라를 향한 텍스처 사각형 하나 (정점 4개) 로 자기 버킷의 타일을 그립니다.
+ *
+ * 같은 버킷의 블록들은 같은 위상으로 회전하므로 아틀라스는 블록 수와 관계없이 버킷 수만큼만 그리고,
+ * 갱신은 지난 프레임에 임포스터가 쓰였을 때 설정한 주기로 월드 렌더 시작 때 한 번 (그리기 호출 하나) 만 합니다.
+ * 타일은 빌보드 회전과 카메라 피치 없이 고정된 방향에서 본 모습이라 가까이서는 쓰지 않습니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractImpostors {
+
+    // 타일이 덮는 블록 공간의 반크기 (투영된 테서랙트 + 튜브 반지름)
+    private static final float TILE_EXTENT = TesseractBlockEntityRenderer.RENDER_EXTENT;
+    // 아틀라스 한 변의 최대 크기 (픽셀) - 넘으면 타일을 줄임
+    private static final int MAX_ATLAS_SIZE = 2048;
+
+    private static SimpleFramebuffer atlas;
+    private static int atlasSize;
+    private static int tileSize;
+    private static int columns;
+    private static int tileCount;
+
+    // 지난 갱신 시각, 아틀라스에 현재 배치의 타일이 그려졌는지, 이번 프레임에 임포스터를 그렸는지
+    private static long lastRefreshMillis;
+    private static boolean ready = false;
+    private static boolean used = false;
+
+    private static final CylinderTubeEmitter tubeEmitter = new CylinderTubeEmitter(
+            TesseractBlockEntityRenderer.CYLINDER_SEGMENTS, TesseractBlockEntityRenderer.CYLINDER_RADIUS);
+    private static final float[] edgeColors = new float[TesseractProjector.TESSERACT_EDGES.length * 3];
+    private static final Matrix4f tileMatrix = new Matrix4f();
+    private static final Vector3f center = new Vector3f();
+
+    private TesseractImpostors() {
+    }
+
+    /**
+     * 선 LOD 단계를 임포스터로 그리는지 (인스턴싱 경로는 제외).
+     */
+    public static boolean isEnabled() {
+        return TesseractRenderConfig.impostors && !TesseractInstancedRenderer.isActive();
+    }
+
+    /**
+     * 아틀라스의 색상 텍스처 (IMPOSTOR 레이어가 바인딩). 아직 없으면 0.
+     */
+    public static int getTextureId() {
+        return atlas != null ? atlas.getColorAttachment() : 0;
+    }
+
+    /**
+     * 월드 렌더 이벤트 (START) 에서 호출됩니다. 지난 프레임에 임포스터가 쓰였고 갱신 주기가 지났으면 아틀라스를 다시 그립니다.
+     */
+    public static void refresh(WorldRenderContext context) {
+        boolean wasUsed = used;
+        used = false;
+        if (!wasUsed || !isEnabled()) return;
+
+        long now = Util.getMeasuringTimeMs();
+        boolean resized = ensureAtlas();
+        if (ready && !resized && now - lastRefreshMillis < 1000L / TesseractRenderConfig.impostorFps) return;
+
+        lastRefreshMillis = now;
+        long start = System.nanoTime();
+        try {
+            renderAtlas();
+            ready = true;
+        } catch (Exception e) {
+            TesseractDebugValidation.reportFailure("TesseractImpostors", e);
+        } finally {
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 이 버킷의 타일로 임포스터를 그릴 수 있는지. 아틀라스가 아직 그려지지 않았거나 버킷 수가 바뀐 직후면 false이고
+     * 호출자는 선으로 그립니다. 어느 쪽이든 다음 월드 렌더 시작 때 아틀라스를 갱신하도록 기록합니다.
+     */
+    public static boolean hasTile(int bucket) {
+        used = true;
+        return ready && bucket < tileCount;
+    }
+
+    /**
+     * 블록 하나를 자기 버킷 타일의 사각형으로 출력합니다 (IMPOSTOR 레이어). hasTile()이 true인 버킷만 넘겨야 합니다.
+     *
+     * @param entryMatrix 블록 모서리 기준 매트릭스 (뷰 회전 포함)
+     */
+    public static void emit(VertexConsumer vertexConsumer, Matrix4f entryMatrix, int bucket) {
+        entryMatrix.transformPosition(0.5f, 0.5f, 0.5f, center);
+        float u0 = (float) (bucket % columns) * tileSize / atlasSize;
+        float v0 = (float) (bucket / columns) * tileSize / atlasSize;
+        float u1 = u0 + (float) tileSize / atlasSize;
+        float v1 = v0 + (float) tileSize / atlasSize;
+
+        // 뷰 공간에서 x, y 축에 나란한 사각형 = 카메라를 향함 (반시계 방향)
+        addVertex(vertexConsumer, center.x - TILE_EXTENT, center.y - TILE_EXTENT, center.z, u0, v0);
+        addVertex(vertexConsumer, center.x + TILE_EXTENT, center.y - TILE_EXTENT, center.z, u1, v0);
+        addVertex(vertexConsumer, center.x + TILE_EXTENT, center.y + TILE_EXTENT, center.z, u1, v1);
+        addVertex(vertexConsumer, center.x - TILE_EXTENT, center.y + TILE_EXTENT, center.z, u0, v1);
+    }
+
+    private static void addVertex(VertexConsumer vertexConsumer, float x, float y, float z, float u, float v) {
+        vertexConsumer.vertex(x, y, z)
+                .color(1f, 1f, 1f, 1f)
+                .texture(u, v)
+                .next();
+    }
+
+    // 버킷 수와 타일 크기에 맞게 아틀라스를 만들거나 크기를 바꿈 - 바뀌었으면 true
+    private static boolean ensureAtlas() {
+        int count = Math.max(1, TesseractRenderConfig.phaseBuckets);
+        int cols = (int) Math.ceil(Math.sqrt(count));
+        int size = Math.min(TesseractRenderConfig.impostorSize, MAX_ATLAS_SIZE / cols);
+        if (atlas != null && count == tileCount && size == tileSize) return false;
+
+        tileCount = count;
+        columns = cols;
+        tileSize = size;
+        atlasSize = cols * size;
+        if (atlas == null) {
+            atlas = new SimpleFramebuffer(atlasSize, atlasSize, true, MinecraftClient.IS_SYSTEM_MAC);
+        } else {
+            atlas.resize(atlasSize, atlasSize, MinecraftClient.IS_SYSTEM_MAC);
+        }
+        // 최근접 필터 - 선형 필터는 튜브 가장자리를 빈 곳의 (0, 0, 0, 0)과 섞고, 불투명 레이어가 그 텍셀을 그대로 그려서
+        // 검은 테두리가 생김
+        atlas.setTexFilter(GlConst.GL_NEAREST);
+        atlas.setClearColor(0f, 0f, 0f, 0f);
+        ready = false;
+        return true;
+    }
+
+    // 모든 버킷의 타일을 정사영으로 한 번에 그림 (아틀라스 전체가 뷰포트, 타일마다 이동과 크기만 다름)
+    private static void renderAtlas() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        MatrixStack modelViewStack = RenderSystem.getModelViewStack();
+
+        RenderSystem.backupProjectionMatrix();
+        RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0f, atlasSize, 0f, atlasSize, -1000f, 1000f),
+                VertexSorter.BY_Z);
+        modelViewStack.push();
+        modelViewStack.loadIdentity();
+        RenderSystem.applyModelViewMatrix();
+        try {
+            atlas.clear(MinecraftClient.IS_SYSTEM_MAC);
+            atlas.beginWrite(true);
+            RenderSystem.enableDepthTest();
+            RenderSystem.setShader(GameRenderer::getPositionColorProgram);
+
+            BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+            buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
+
+            long frame = TesseractAnimationClock.getFrame();
+            float scale = tileSize / (2f * TILE_EXTENT);
+            for (int bucket = 0; bucket < tileCount; bucket++) {
+                float time = TesseractAnimationClock.getBlockTime(bucket, tileCount);
+                TesseractBlockEntityRenderer.fillEdgeColors(time, edgeColors);
+
+                tileMatrix.translation((bucket % columns + 0.5f) * tileSize, (bucket / columns + 0.5f) * tileSize, 0f)
+                        .scale(scale);
+                // 버킷별 투영은 월드 렌더 시작 때 이미 계산되어 있으면 그대로 씀
+                tubeEmitter.emitEdges(buffer, tileMatrix,
+                        TesseractProjector.BLOCK.getProjectedVertices(bucket, frame, time),
+                        TesseractProjector.TESSERACT_EDGES, edgeColors, 1f);
+            }
+            BufferRenderer.drawWithGlobalProgram(buffer.end());
+        } finally {
+            modelViewStack.pop();
+            RenderSystem.applyModelViewMatrix();
+            RenderSystem.restoreProjectionMatrix();
+            client.getFramebuffer().beginWrite(true);
+        }
+    }
+}
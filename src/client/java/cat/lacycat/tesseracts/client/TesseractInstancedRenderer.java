@@ -0,0 +1,214 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.TesseractMod;
+import cat.lacycat.tesseracts.client.mixin.VertexBufferAccessor;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.client.rendering.v1.CoreShaderRegistrationCallback;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.gl.GlUniform;
+import net.minecraft.client.gl.ShaderProgram;
+import net.minecraft.client.gl.VertexBuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.Identifier;
+import org.joml.Matrix4f;
+import org.lwjgl.opengl.GL31;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * GPU 인스턴싱 렌더링 경로. 단위 튜브 메시(모든 모서리)를 VertexBuffer에 한 번만 올려 두고,
+ * 블록 엔티티 렌더러는 인스턴스 데이터(위치, 시간, 빌보드 각도)만 기록합니다.
+ * 4D 회전, 투영, 튜브 생성은 tesseract_instanced 코어 셰이더가 처리합니다.
+ *
+ * 인스턴스 데이터는 유니폼 배열로 넘기고 glDrawElementsInstanced(GL 3.1)로 그리므로
+ * 정점 속성 분할자나 SSBO 없이 Mesa llvmpipe 같은 소프트웨어 GL에서도 동작합니다.
+ */
+public final class TesseractInstancedRenderer {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    public static final Identifier SHADER_ID = new Identifier(TesseractMod.MOD_ID, "tesseract_instanced");
+
+    // 인스턴스당 float 수와 드로우 호출당 인스턴스 수 (셰이더의 InstanceData[256]과 맞춰야 함)
+    private static final int INSTANCE_STRIDE = 8;
+    private static final int MAX_INSTANCES_PER_DRAW = 32;
+
+    private static ShaderProgram shader;
+    private static VertexBuffer unitTube;
+    private static boolean meshFailed = false;
+
+    // 이번 프레임에 기록된 인스턴스들
+    private static float[] instances = new float[MAX_INSTANCES_PER_DRAW * INSTANCE_STRIDE];
+    private static int instanceCount = 0;
+    private static long instanceFrame = -1;
+
+    private static final float[] batchData = new float[MAX_INSTANCES_PER_DRAW * INSTANCE_STRIDE];
+    private static final Matrix4f viewMatrix = new Matrix4f();
+
+    private TesseractInstancedRenderer() {
+    }
+
+    public static void registerShaders(CoreShaderRegistrationCallback.RegistrationContext context) throws IOException {
+        context.register(SHADER_ID, VertexFormats.POSITION_TEXTURE, program -> shader = program);
+    }
+
+    /**
+     * 인스턴싱 경로를 쓸 수 있는지 (설정이 켜져 있고 셰이더가 로드됨).
+     */
+    public static boolean isActive() {
+        return TesseractRenderConfig.renderPath == TesseractRenderConfig.RenderPath.INSTANCED
+                && shader != null && !meshFailed;
+    }
+
+    /**
+     * 블록 테서랙트 인스턴스 하나를 이번 프레임에 기록합니다.
+     *
+     * @param x 카메라 기준 블록 중심 X
+     * @param y 카메라 기준 블록 중심 Y
+     * @param z 카메라 기준 블록 중심 Z
+     * @param time 애니메이션 시간
+     * @param billboardAngle 플레이어를 향한 Y축 회전 각도
+     */
+    public static void addInstance(float x, float y, float z, float time, float billboardAngle) {
+        long frame = TesseractAnimationClock.getFrame();
+        if (frame != instanceFrame) {
+            // 지난 프레임에 그려지지 않은 인스턴스는 버림
+            instanceCount = 0;
+            instanceFrame = frame;
+        }
+
+        int offset = instanceCount * INSTANCE_STRIDE;
+        if (offset + INSTANCE_STRIDE > instances.length) {
+            instances = Arrays.copyOf(instances, instances.length * 2);
+        }
+
+        instances[offset] = x;
+        instances[offset + 1] = y;
+        instances[offset + 2] = z;
+        instances[offset + 3] = time;
+        instances[offset + 4] = (float) Math.cos(billboardAngle);
+        instances[offset + 5] = (float) Math.sin(billboardAngle);
+        instances[offset + 6] = 0.0f;
+        instances[offset + 7] = 0.0f;
+        instanceCount++;
+    }
+
+    /**
+     * 이번 프레임에 기록된 인스턴스들을 그립니다 (블록 엔티티 렌더링 이후 월드 렌더 이벤트).
+     */
+    public static void render(WorldRenderContext context) {
+        if (instanceCount == 0 || instanceFrame != TesseractAnimationClock.getFrame()) {
+            instanceCount = 0;
+            return;
+        }
+
+        ShaderProgram program = shader;
+        VertexBuffer mesh = getUnitTube();
+        GlUniform instanceData = program != null ? program.getUniform("InstanceData") : null;
+        if (mesh == null || instanceData == null) {
+            instanceCount = 0;
+            return;
+        }
+
+        setupUniforms(program, context);
+
+        RenderSystem.enableDepthTest();
+        RenderSystem.depthMask(true);
+        RenderSystem.enableCull();
+        RenderSystem.disableBlend();
+
+        VertexBufferAccessor accessor = (VertexBufferAccessor) mesh;
+        int glMode = accessor.tesseracts$getDrawMode().glMode;
+        int indexCount = accessor.tesseracts$getIndexCount();
+
+        mesh.bind();
+        // 공유 인덱스 버퍼는 bind() 이후에 타입이 확정됨
+        int indexType = accessor.tesseracts$invokeGetIndexType().glType;
+
+        for (int first = 0; first < instanceCount; first += MAX_INSTANCES_PER_DRAW) {
+            int count = Math.min(MAX_INSTANCES_PER_DRAW, instanceCount - first);
+            System.arraycopy(instances, first * INSTANCE_STRIDE, batchData, 0, count * INSTANCE_STRIDE);
+            instanceData.set(batchData);
+
+            program.bind();
+            GL31.glDrawElementsInstanced(glMode, indexCount, indexType, 0L, count);
+        }
+
+        program.unbind();
+        VertexBuffer.unbind();
+        instanceCount = 0;
+    }
+
+    private static void setupUniforms(ShaderProgram program, WorldRenderContext context) {
+        TesseractProjector projector = TesseractProjector.BLOCK;
+
+        viewMatrix.set(RenderSystem.getModelViewMatrix()).mul(context.matrixStack().peek().getPositionMatrix());
+        if (program.modelViewMat != null) program.modelViewMat.set(viewMatrix);
+        if (program.projectionMat != null) program.projectionMat.set(RenderSystem.getProjectionMatrix());
+        if (program.fogStart != null) program.fogStart.set(RenderSystem.getShaderFogStart());
+        if (program.fogEnd != null) program.fogEnd.set(RenderSystem.getShaderFogEnd());
+        if (program.fogColor != null) program.fogColor.set(RenderSystem.getShaderFogColor());
+        if (program.fogShape != null) program.fogShape.set(RenderSystem.getShaderFogShape().getId());
+
+        GlUniform rotationRates = program.getUniform("RotationRates");
+        if (rotationRates != null) rotationRates.set(projector.getRotationRates());
+
+        GlUniform projection = program.getUniform("Projection");
+        if (projection != null) {
+            projection.set(projector.getHalfSize(), projector.getWOffset(),
+                    projector.getProjectionScale(), projector.getCoordinateLimit());
+        }
+
+        GlUniform tubeRadius = program.getUniform("TubeRadius");
+        if (tubeRadius != null) tubeRadius.set(TesseractBlockEntityRenderer.CYLINDER_RADIUS);
+    }
+
+    // 단위 튜브 메시를 처음 사용할 때 한 번만 만들어서 올림
+    private static VertexBuffer getUnitTube() {
+        if (unitTube != null || meshFailed) return unitTube;
+
+        try {
+            int segments = TesseractBlockEntityRenderer.CYLINDER_SEGMENTS;
+            BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+            buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_TEXTURE);
+
+            int[][] edges = TesseractProjector.TESSERACT_EDGES;
+            for (int edgeIndex = 0; edgeIndex < edges.length; edgeIndex++) {
+                float startBits = TesseractProjector.getUnitVertexSignBits(edges[edgeIndex][0]);
+                float endBits = TesseractProjector.getUnitVertexSignBits(edges[edgeIndex][1]);
+
+                // CylinderTubeEmitter와 같은 순서: start_i, end_i, end_next, start_next
+                for (int i = 0; i < segments; i++) {
+                    int next = i + 1 == segments ? 0 : i + 1;
+                    addTubeVertex(buffer, startBits, endBits, edgeIndex, 0, i, segments);
+                    addTubeVertex(buffer, startBits, endBits, edgeIndex, 1, i, segments);
+                    addTubeVertex(buffer, startBits, endBits, edgeIndex, 1, next, segments);
+                    addTubeVertex(buffer, startBits, endBits, edgeIndex, 0, next, segments);
+                }
+            }
+
+            VertexBuffer mesh = new VertexBuffer(VertexBuffer.Usage.STATIC);
+            mesh.bind();
+            mesh.upload(buffer.end());
+            VertexBuffer.unbind();
+            unitTube = mesh;
+        } catch (Exception e) {
+            LOGGER.error("Failed to build instanced tesseract mesh, falling back to immediate rendering", e);
+            meshFailed = true;
+        }
+        return unitTube;
+    }
+
+    private static void addTubeVertex(BufferBuilder buffer, float startBits, float endBits, int edgeIndex,
+                                      int endRing, int segment, int segments) {
+        double angle = 2.0 * Math.PI * segment / segments;
+        buffer.vertex(startBits, endBits, edgeIndex * 2 + endRing)
+                .texture((float) Math.cos(angle), (float) Math.sin(angle))
+                .next();
+    }
+}
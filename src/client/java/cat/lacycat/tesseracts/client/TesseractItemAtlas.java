@@ -0,0 +1,175 @@
+package cat.lacycat.tesseracts.client;
+
+import com.mojang.blaze3d.platform.GlConst;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.systems.VertexSorter;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gl.SimpleFramebuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferRenderer;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.render.Tessellator;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.Util;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * GUI 슬롯의 테서랙트 아이템 캐시. 인벤토리용 변환으로 본 테서랙트를 화면 밖 프레임버퍼에 설정한 주기로 한 번 그려 두고,
+ * GUI의 모든 스택은 그 텍스처를 사각형 하나 (정점 4개) 로 찍습니다.
+ *
+ * 모든 아이템 스택은 같은 시간으로 회전하므로 슬롯 수와 관계없이 갱신마다 한 번만 그리면 됩니다.
+ * 갱신은 지난 프레임에 GUI에서 쓰였을 때만 월드 렌더 시작 때 합니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractItemAtlas {
+
+    // 인벤토리 변환의 크기 배율 (TesseractItemRenderer.applyTransformations의 GUI)
+    private static final float GUI_SCALE = 0.8f;
+
+    private static SimpleFramebuffer framebuffer;
+    private static int size;
+
+    // 지난 갱신 시각, 텍스처가 그려졌는지, 이번 프레임에 GUI에서 쓰였는지
+    private static long lastRefreshMillis;
+    private static boolean ready = false;
+    private static boolean used = false;
+
+    private static final CylinderTubeEmitter tubeEmitter = new CylinderTubeEmitter(
+            TesseractItemRenderer.CYLINDER_SEGMENTS, TesseractItemRenderer.CYLINDER_RADIUS);
+    private static final float[] edgeColors = new float[TesseractProjector.TESSERACT_EDGES.length * 3];
+    private static final Vector3f center = new Vector3f();
+
+    private TesseractItemAtlas() {
+    }
+
+    public static boolean isEnabled() {
+        return TesseractRenderConfig.itemAtlas;
+    }
+
+    /**
+     * 캐시 텍스처 (ITEM_ATLAS 레이어가 바인딩). 아직 없으면 0.
+     */
+    public static int getTextureId() {
+        return framebuffer != null ? framebuffer.getColorAttachment() : 0;
+    }
+
+    /**
+     * 월드 렌더 이벤트 (START) 에서 호출됩니다. 지난 프레임에 GUI에서 쓰였고 갱신 주기가 지났으면 텍스처를 다시 그립니다.
+     */
+    public static void refresh(WorldRenderContext context) {
+        boolean wasUsed = used;
+        used = false;
+        if (!wasUsed || !isEnabled()) return;
+
+        long now = Util.getMeasuringTimeMs();
+        boolean resized = ensureFramebuffer();
+        if (ready && !resized && now - lastRefreshMillis < 1000L / TesseractRenderConfig.itemAtlasFps) return;
+
+        lastRefreshMillis = now;
+        long start = System.nanoTime();
+        try {
+            renderTexture();
+            ready = true;
+        } catch (Exception e) {
+            TesseractDebugValidation.reportFailure("TesseractItemAtlas", e);
+        } finally {
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * GUI 스택 하나를 캐시 텍스처의 사각형으로 출력합니다 (ITEM_ATLAS 레이어). 텍스처가 아직 없으면 false를 돌려주고
+     * 호출자가 직접 그립니다.
+     *
+     * @param itemMatrix 아이템 렌더러가 받은 매트릭스 (블록 모서리 기준, 인벤토리 변환 적용 전)
+     */
+    public static boolean emit(VertexConsumerProvider vertexConsumers, Matrix4f itemMatrix) {
+        used = true;
+        if (!ready) return false;
+
+        VertexConsumer vertexConsumer = vertexConsumers.getBuffer(TesseractRenderLayers.ITEM_ATLAS);
+
+        // 아이템 공간에서 x, y 축에 나란한 사각형 = 화면을 향함 (반시계 방향)
+        float extent = getExtent();
+        addVertex(vertexConsumer, itemMatrix, 0.5f - extent, 0.5f - extent, 0f, 0f);
+        addVertex(vertexConsumer, itemMatrix, 0.5f + extent, 0.5f - extent, 1f, 0f);
+        addVertex(vertexConsumer, itemMatrix, 0.5f + extent, 0.5f + extent, 1f, 1f);
+        addVertex(vertexConsumer, itemMatrix, 0.5f - extent, 0.5f + extent, 0f, 1f);
+        return true;
+    }
+
+    private static void addVertex(VertexConsumer vertexConsumer, Matrix4f matrix, float x, float y, float u, float v) {
+        matrix.transformPosition(x, y, 0f, center);
+        vertexConsumer.vertex(center.x, center.y, center.z)
+                .color(1f, 1f, 1f, 1f)
+                .texture(u, v)
+                .next();
+    }
+
+    // 인벤토리 변환 뒤 테서랙트 (튜브 포함) 가 덮는 아이템 공간의 반크기
+    private static float getExtent() {
+        return GUI_SCALE * TesseractProjector.ITEM.getMaxExtent(TesseractItemRenderer.CYLINDER_RADIUS);
+    }
+
+    // 설정한 크기로 프레임버퍼를 만들거나 크기를 바꿈 - 바뀌었으면 true
+    private static boolean ensureFramebuffer() {
+        int requested = TesseractRenderConfig.itemAtlasSize;
+        if (framebuffer != null && requested == size) return false;
+
+        size = requested;
+        if (framebuffer == null) {
+            framebuffer = new SimpleFramebuffer(size, size, true, MinecraftClient.IS_SYSTEM_MAC);
+        } else {
+            framebuffer.resize(size, size, MinecraftClient.IS_SYSTEM_MAC);
+        }
+        // 최근접 필터 - 선형 필터는 튜브 가장자리를 빈 곳의 (0, 0, 0, 0)과 섞어 검은 테두리를 만듦 (TesseractImpostors와 같음)
+        framebuffer.setTexFilter(GlConst.GL_NEAREST);
+        framebuffer.setClearColor(0f, 0f, 0f, 0f);
+        ready = false;
+        return true;
+    }
+
+    // 인벤토리 변환 (크기 배율 제외) 을 정사영으로 그림 - 텍스처 한 변이 아이템 공간의 2 * getExtent()
+    private static void renderTexture() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        MatrixStack modelViewStack = RenderSystem.getModelViewStack();
+
+        RenderSystem.backupProjectionMatrix();
+        RenderSystem.setProjectionMatrix(new Matrix4f().setOrtho(0f, size, 0f, size, -1000f, 1000f),
+                VertexSorter.BY_Z);
+        modelViewStack.push();
+        modelViewStack.loadIdentity();
+        RenderSystem.applyModelViewMatrix();
+        try {
+            framebuffer.clear(MinecraftClient.IS_SYSTEM_MAC);
+            framebuffer.beginWrite(true);
+            RenderSystem.enableDepthTest();
+            RenderSystem.setShader(GameRenderer::getPositionColorProgram);
+
+            float time = TesseractAnimationClock.getItemTime();
+            TesseractItemRenderer.fillEdgeColors(time, edgeColors);
+            Matrix4f matrix = new Matrix4f()
+                    .translation(size * 0.5f, size * 0.5f, 0f)
+                    .scale(size / (2f * getExtent()) * GUI_SCALE)
+                    .rotateX((float) Math.toRadians(30))
+                    .rotateY((float) Math.toRadians(45));
+
+            BufferBuilder buffer = Tessellator.getInstance().getBuffer();
+            buffer.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
+            tubeEmitter.emitEdges(buffer, matrix,
+                    TesseractProjector.ITEM.getProjectedVertices(TesseractAnimationClock.getFrame(), time),
+                    TesseractProjector.TESSERACT_EDGES, edgeColors, 1f);
+            BufferRenderer.drawWithGlobalProgram(buffer.end());
+        } finally {
+            modelViewStack.pop();
+            RenderSystem.applyModelViewMatrix();
+            RenderSystem.restoreProjectionMatrix();
+            client.getFramebuffer().beginWrite(true);
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.TesseractMod;
+import org.joml.Vector3f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * 한 애니메이션 주기 동안의 투영된 테서랙트를 키프레임으로 미리 계산해 둔 표.
+ * 회전 속도가 상수라서 애니메이션은 시간에 대해 완전히 결정적이므로, 렌더링 때는 가까운 두 키프레임을
+ * 선형 보간하기만 하면 됩니다 (삼각함수/매트릭스 계산 없음).
+ *
+ * 정점 키프레임은 기본형 float 배열 하나에 키프레임 순서로 연속해서 저장됩니다. 튜브 에미터를 넘기면 링 데이터도
+ * 샘플링할 수 있는데, 링을 키프레임 사이에서 보간하면 모서리가 수직을 지날 때 둘레 기준 벡터가 뒤집혀 튜브가
+ * 가늘어지므로 보간한 양 끝점에서 링을 다시 만듭니다.
+ *
+ * 데이터 생성 단계에서 구운 표 (assets/tesseract_mod/keyframes/*.bin) 가 있으면 계산 대신 그것을 다이렉트 버퍼로
+ * 읽습니다. 구운 표는 정점을 16비트로 양자화해 두고, 보간할 때 풀어서 씁니다 (링도 보간한 끝점에서 만듦).
+ */
+public class TesseractKeyframeAtlas {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    // 구운 표 헤더: 매직 "TKF1", 버전, 키프레임 수, 정점 수, 모서리 수, 매개변수 지문, 정점 스케일
+    private static final int BAKED_MAGIC = 0x544B4631;
+    private static final int BAKED_VERSION = 2;
+    private static final int BAKED_HEADER_SIZE = 7 * Integer.BYTES;
+
+    /**
+     * 데이터 생성 때 구워 두는 키프레임 수 (설정의 기본 키프레임 수와 같아야 그대로 쓰임).
+     */
+    public static final int BAKED_KEYFRAME_COUNT = 512;
+
+    private final int keyframeCount;
+    private final float period;
+    private final int vertexCount;
+
+    // [키프레임][정점][x, y, z] - 구운 표면 null
+    private final float[] vertexFrames;
+
+    // 구운 표: [키프레임][정점][x, y, z] - 계산한 표면 null
+    private final ShortBuffer bakedVertices;
+    private final float vertexScale;
+    private final int[][] edges;
+    private final long bakedBytes;
+
+    // 보간한 끝점에서 링을 만드는 에미터 (튜브가 없으면 null) 와 보간한 끝점 스크래치
+    private final CylinderTubeEmitter ringEmitter;
+    private final Vector3f ringStart = new Vector3f();
+    private final Vector3f ringEnd = new Vector3f();
+    private final int tubeFrameSize;
+    private final int tubeSegments;
+
+    /**
+     * @param projector 키프레임을 계산할 투영기
+     * @param edges 모서리 정점 인덱스 쌍
+     * @param keyframeCount 한 주기당 키프레임 수
+     * @param tubeEmitter 튜브 링 데이터의 세그먼트 수와 반지름을 정할 에미터 (null이면 정점만)
+     */
+    public TesseractKeyframeAtlas(TesseractProjector projector, int[][] edges, int keyframeCount,
+                                  CylinderTubeEmitter tubeEmitter) {
+        if (keyframeCount < 2) {
+            throw new IllegalArgumentException("Keyframe atlas needs at least 2 keyframes, got " + keyframeCount);
+        }
+
+        this.keyframeCount = keyframeCount;
+        this.period = (float) projector.getPeriod();
+        this.vertexCount = projector.getVertexCount();
+        this.vertexFrames = new float[keyframeCount * vertexCount * 3];
+        this.bakedVertices = null;
+        this.vertexScale = 1.0f;
+        this.edges = edges;
+        this.ringEmitter = createRingEmitter(tubeEmitter);
+        this.bakedBytes = 0;
+
+        this.tubeSegments = tubeEmitter != null ? tubeEmitter.getSegments() : 0;
+        this.tubeFrameSize = tubeEmitter != null ? edges.length * tubeEmitter.getRingDataSize() : 0;
+
+        // 모든 키프레임의 정점은 투영 커널 한 번으로 계산
+        projector.computeKeyframes(keyframeCount, vertexFrames);
+    }
+
+    // 헤더를 확인한 구운 표 (data의 위치는 헤더 바로 뒤)
+    private TesseractKeyframeAtlas(TesseractProjector projector, int[][] edges, int keyframeCount, float vertexScale,
+                                   ByteBuffer data, CylinderTubeEmitter tubeEmitter) {
+        this.keyframeCount = keyframeCount;
+        this.period = (float) projector.getPeriod();
+        this.vertexCount = projector.getVertexCount();
+        this.vertexFrames = null;
+        this.vertexScale = vertexScale;
+        this.edges = edges;
+        this.ringEmitter = createRingEmitter(tubeEmitter);
+        this.bakedBytes = data.capacity();
+
+        this.bakedVertices = data.slice(BAKED_HEADER_SIZE, keyframeCount * vertexCount * 3 * Short.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+
+        this.tubeSegments = tubeEmitter != null ? tubeEmitter.getSegments() : 0;
+        this.tubeFrameSize = tubeEmitter != null ? edges.length * tubeEmitter.getRingDataSize() : 0;
+    }
+
+    /**
+     * 투영기의 한 주기를 keyframeCount등분한 정점을 구운 표 형식 (리틀 엔디언) 으로 만듭니다.
+     * 정점은 가장 큰 좌표 크기로 16비트 양자화합니다.
+     */
+    public static byte[] bake(TesseractProjector projector, int keyframeCount) {
+        int[][] edges = projector.getEdges();
+        int vertexCount = projector.getVertexCount();
+        float[] vertices = new float[keyframeCount * vertexCount * 3];
+        projector.computeKeyframes(keyframeCount, vertices);
+
+        float maxCoordinate = 0.0f;
+        for (float value : vertices) {
+            maxCoordinate = Math.max(maxCoordinate, Math.abs(value));
+        }
+        float vertexScale = maxCoordinate > 0.0f ? maxCoordinate / Short.MAX_VALUE : 1.0f;
+
+        int shortCount = keyframeCount * vertexCount * 3;
+        ByteBuffer out = ByteBuffer.allocate(BAKED_HEADER_SIZE + shortCount * Short.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(BAKED_MAGIC)
+                .putInt(BAKED_VERSION)
+                .putInt(keyframeCount)
+                .putInt(vertexCount)
+                .putInt(edges.length)
+                .putInt(projector.getKeyframeFingerprint())
+                .putFloat(vertexScale);
+
+        // |value| <= maxCoordinate 이므로 value / vertexScale은 short 범위 안
+        for (float value : vertices) {
+            out.putShort((short) Math.round(value / vertexScale));
+        }
+
+        return out.array();
+    }
+
+    /**
+     * 모드 리소스의 구운 표 (assets/tesseract_mod/keyframes/&lt;name&gt;.bin) 를 읽습니다.
+     * 없거나 키프레임 수, 정점/모서리 수, 매개변수 지문이 이 투영기와 다르면 null을 돌려줍니다 (호출자가 계산).
+     *
+     * @param tubeEmitter 샘플링 때 링을 만들 에미터 (null이면 정점만)
+     */
+    public static TesseractKeyframeAtlas loadBaked(String name, TesseractProjector projector, int keyframeCount,
+                                                   CylinderTubeEmitter tubeEmitter) {
+        String path = "/assets/" + TesseractMod.MOD_ID + "/keyframes/" + name + ".bin";
+        int[][] edges = projector.getEdges();
+        int vertexCount = projector.getVertexCount();
+        long expectedSize = BAKED_HEADER_SIZE
+                + (long) keyframeCount * vertexCount * 3 * Short.BYTES;
+        if (expectedSize > Integer.MAX_VALUE) return null;
+
+        // 리소스를 다이렉트 버퍼로 바로 읽음 (중간 바이트 배열 없음), 크기가 다르면 버림
+        ByteBuffer data = ByteBuffer.allocateDirect((int) expectedSize).order(ByteOrder.LITTLE_ENDIAN);
+        try (InputStream in = TesseractKeyframeAtlas.class.getResourceAsStream(path)) {
+            if (in == null) return null;
+            ReadableByteChannel channel = Channels.newChannel(in);
+            while (data.hasRemaining()) {
+                if (channel.read(data) < 0) return null;
+            }
+            if (in.read() >= 0) return null;
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read baked keyframes {}", path, e);
+            return null;
+        }
+        data.flip();
+
+        if (data.getInt(0) != BAKED_MAGIC
+                || data.getInt(4) != BAKED_VERSION
+                || data.getInt(8) != keyframeCount
+                || data.getInt(12) != vertexCount
+                || data.getInt(16) != edges.length
+                || data.getInt(20) != projector.getKeyframeFingerprint()) {
+            LOGGER.info("Baked keyframes {} do not match the current projection, ignoring", path);
+            return null;
+        }
+        return new TesseractKeyframeAtlas(projector, edges, keyframeCount, data.getFloat(24), data, tubeEmitter);
+    }
+
+    public boolean isBaked() {
+        return bakedVertices != null;
+    }
+
+    public int getKeyframeCount() {
+        return keyframeCount;
+    }
+
+    public boolean hasTubes() {
+        return ringEmitter != null;
+    }
+
+    /**
+     * 튜브 링 데이터를 만들 때 사용한 세그먼트 수 (튜브가 없으면 0).
+     */
+    public int getTubeSegments() {
+        return tubeSegments;
+    }
+
+    /**
+     * 보간된 튜브 링 데이터를 담기 위해 필요한 배열 크기.
+     */
+    public int getTubeFrameSize() {
+        return tubeFrameSize;
+    }
+
+    /**
+     * 키프레임 데이터가 차지하는 메모리 (바이트).
+     */
+    public long getMemoryBytes() {
+        if (bakedVertices != null) return bakedBytes;
+        return (long) vertexFrames.length * Float.BYTES;
+    }
+
+    /**
+     * 주어진 시간의 투영된 정점들을 보간해서 dest에 씁니다.
+     */
+    public void sampleVertices(float time, Vector3f[] dest) {
+        float position = getFramePosition(time);
+        int frame = (int) position;
+        float t = position - frame;
+        int offset0 = frame * vertexCount * 3;
+        int offset1 = nextFrame(frame) * vertexCount * 3;
+
+        if (bakedVertices != null) {
+            ShortBuffer frames = bakedVertices;
+            float scale = vertexScale;
+            for (int i = 0; i < vertexCount; i++) {
+                int i0 = offset0 + i * 3;
+                int i1 = offset1 + i * 3;
+                dest[i].set(
+                        lerp(frames.get(i0), frames.get(i1), t) * scale,
+                        lerp(frames.get(i0 + 1), frames.get(i1 + 1), t) * scale,
+                        lerp(frames.get(i0 + 2), frames.get(i1 + 2), t) * scale);
+            }
+            return;
+        }
+
+        float[] frames = vertexFrames;
+        for (int i = 0; i < vertexCount; i++) {
+            int i0 = offset0 + i * 3;
+            int i1 = offset1 + i * 3;
+            dest[i].set(
+                    frames[i0] + (frames[i1] - frames[i0]) * t,
+                    frames[i0 + 1] + (frames[i1 + 1] - frames[i0 + 1]) * t,
+                    frames[i0 + 2] + (frames[i1 + 2] - frames[i0 + 2]) * t);
+        }
+    }
+
+    /**
+     * 주어진 시간의 튜브 링 데이터를 dest에 씁니다 (모서리마다 CylinderTubeEmitter의 링 데이터 형식).
+     * 양 끝점만 보간하고 둘레 기준 벡터는 보간한 모서리 방향에서 다시 만듭니다.
+     */
+    public void sampleTubes(float time, float[] dest) {
+        float position = getFramePosition(time);
+        int frame = (int) position;
+        float t = position - frame;
+        if (bakedVertices != null) {
+            sampleBakedTubes(frame, t, dest);
+            return;
+        }
+
+        int offset0 = frame * vertexCount * 3;
+        int offset1 = nextFrame(frame) * vertexCount * 3;
+        int ringDataSize = ringEmitter.getRingDataSize();
+
+        float[] frames = vertexFrames;
+        for (int edgeIndex = 0; edgeIndex < edges.length; edgeIndex++) {
+            int[] edge = edges[edgeIndex];
+            int s0 = offset0 + edge[0] * 3;
+            int s1 = offset1 + edge[0] * 3;
+            int e0 = offset0 + edge[1] * 3;
+            int e1 = offset1 + edge[1] * 3;
+            ringStart.set(
+                    frames[s0] + (frames[s1] - frames[s0]) * t,
+                    frames[s0 + 1] + (frames[s1 + 1] - frames[s0 + 1]) * t,
+                    frames[s0 + 2] + (frames[s1 + 2] - frames[s0 + 2]) * t);
+            ringEnd.set(
+                    frames[e0] + (frames[e1] - frames[e0]) * t,
+                    frames[e0 + 1] + (frames[e1 + 1] - frames[e0 + 1]) * t,
+                    frames[e0 + 2] + (frames[e1 + 2] - frames[e0 + 2]) * t);
+            ringEmitter.computeEdgeRings(ringStart, ringEnd, dest, edgeIndex * ringDataSize);
+        }
+    }
+
+    // 렌더러의 에미터와 스크래치를 공유하지 않도록 같은 세그먼트 수와 반지름의 에미터를 따로 만듦
+    private static CylinderTubeEmitter createRingEmitter(CylinderTubeEmitter tubeEmitter) {
+        return tubeEmitter != null ? new CylinderTubeEmitter(tubeEmitter.getSegments(), tubeEmitter.getRadius()) : null;
+    }
+
+    // 구운 표: 양자화된 양 끝점을 보간한 뒤 계산한 표와 같은 방식으로 링을 만듦
+    private void sampleBakedTubes(int frame, float t, float[] dest) {
+        int offset0 = frame * vertexCount * 3;
+        int offset1 = nextFrame(frame) * vertexCount * 3;
+        int ringDataSize = ringEmitter.getRingDataSize();
+
+        ShortBuffer frames = bakedVertices;
+        float scale = vertexScale;
+        for (int edgeIndex = 0; edgeIndex < edges.length; edgeIndex++) {
+            int[] edge = edges[edgeIndex];
+            int s0 = offset0 + edge[0] * 3;
+            int s1 = offset1 + edge[0] * 3;
+            int e0 = offset0 + edge[1] * 3;
+            int e1 = offset1 + edge[1] * 3;
+            ringStart.set(
+                    lerp(frames.get(s0), frames.get(s1), t) * scale,
+                    lerp(frames.get(s0 + 1), frames.get(s1 + 1), t) * scale,
+                    lerp(frames.get(s0 + 2), frames.get(s1 + 2), t) * scale);
+            ringEnd.set(
+                    lerp(frames.get(e0), frames.get(e1), t) * scale,
+                    lerp(frames.get(e0 + 1), frames.get(e1 + 1), t) * scale,
+                    lerp(frames.get(e0 + 2), frames.get(e1 + 2), t) * scale);
+            ringEmitter.computeEdgeRings(ringStart, ringEnd, dest, edgeIndex * ringDataSize);
+        }
+    }
+
+    private static float lerp(short a, short b, float t) {
+        return a + (b - a) * t;
+    }
+
+    // 시간을 [0, keyframeCount) 범위의 키프레임 위치로 변환
+    private float getFramePosition(float time) {
+        float phase = (time % period) / period;
+        if (phase < 0.0f) phase += 1.0f;
+
+        float position = phase * keyframeCount;
+        // float 반올림으로 keyframeCount가 나오는 경우 방지
+        return position >= keyframeCount ? 0.0f : position;
+    }
+
+    private int nextFrame(int frame) {
+        return frame + 1 == keyframeCount ? 0 : frame + 1;
+    }
+}
@@ -0,0 +1,47 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.TesseractMod;
+import com.google.common.hash.Hashing;
+import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
+import net.minecraft.data.DataOutput;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+import net.minecraft.util.Identifier;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 공유 블록/아이템 투영기의 키프레임 표를 모드 리소스 (assets/tesseract_mod/keyframes/*.bin) 로 굽습니다.
+ * 클라이언트는 시작할 때 계산하는 대신 이 표를 읽습니다 (TesseractKeyframeAtlas.loadBaked).
+ */
+public class TesseractKeyframeProvider implements DataProvider {
+
+    private final DataOutput.PathResolver pathResolver;
+
+    public TesseractKeyframeProvider(FabricDataOutput output) {
+        this.pathResolver = output.getResolver(DataOutput.OutputType.RESOURCE_PACK, "keyframes");
+    }
+
+    @Override
+    public CompletableFuture<?> run(DataWriter writer) {
+        try {
+            write(writer, TesseractProjector.BLOCK);
+            write(writer, TesseractProjector.ITEM);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private void write(DataWriter writer, TesseractProjector projector) throws IOException {
+        byte[] bytes = TesseractKeyframeAtlas.bake(projector, TesseractKeyframeAtlas.BAKED_KEYFRAME_COUNT);
+        Identifier id = new Identifier(TesseractMod.MOD_ID, projector.getBakedKeyframeName());
+        writer.write(pathResolver.resolve(id, "bin"), bytes, Hashing.sha1().hashBytes(bytes));
+    }
+
+    @Override
+    public String getName() {
+        return "Tesseract Keyframes";
+    }
+}
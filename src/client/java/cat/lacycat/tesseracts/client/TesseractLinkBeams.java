@@ -0,0 +1,436 @@
+package cat.lacycat.tesseracts.client;
+
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 같은 네트워크에 속한 테서랙트들을 잇는 연결 빔. 월드 렌더 이벤트에서 네트워크마다 한 번에 그립니다.
+ *
+ * 모든 쌍 대신 신장 트리 (작은 네트워크는 최소 신장 트리, 큰 네트워크는 중심에 가까운 블록을 허브로 한 별 모양) 를 쓰므로
+ * 멤버가 n개인 네트워크의 빔은 n - 1개이고, 빔 하나는 가까우면 카메라를 향한 띠 (정점 4개), 멀면 선 (정점 2개) 입니다.
+ * 트리는 멤버가 바뀔 때만 다시 만들고, 네트워크의 경계 상자와 빔마다 절두체, 차단 거리로 컬링합니다.
+ * 멤버 목록은 네트워크 동기화가 setNetwork로 넣어 줍니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractLinkBeams {
+
+    // 이 수까지는 최소 신장 트리 (O(n^2) 구성), 넘으면 별 모양 (O(n) 구성)
+    private static final int SPANNING_TREE_LIMIT = 256;
+
+    private static final float BEAM_HALF_WIDTH = 0.04f;
+    private static final float BEAM_ALPHA = 0.7f;
+
+    private static final Map<UUID, LinkNetwork> networks = new HashMap<>();
+
+    // 선 LOD로 미룬 빔들 (네트워크, 빔 번호)
+    private static LinkNetwork[] lineNetworks = new LinkNetwork[64];
+    private static int[] lineBeams = new int[64];
+    private static int lineCount = 0;
+
+    private static final Vector3f scratchPosition = new Vector3f();
+    private static final Vector3f scratchNormal = new Vector3f();
+
+    private TesseractLinkBeams() {
+    }
+
+    /**
+     * 네트워크의 멤버 위치들을 설정합니다 (BlockPos.asLong). 두 개 미만이면 네트워크를 지웁니다.
+     */
+    public static void setNetwork(UUID networkId, LongCollection members) {
+        if (members.size() < 2) {
+            networks.remove(networkId);
+            return;
+        }
+        networks.put(networkId, new LinkNetwork(networkId, members.toLongArray()));
+    }
+
+    public static void removeNetwork(UUID networkId) {
+        networks.remove(networkId);
+    }
+
+    /**
+     * 모든 네트워크를 지웁니다 (서버 연결이 끊길 때).
+     */
+    public static void clear() {
+        networks.clear();
+    }
+
+    /**
+     * 월드 렌더 이벤트 (AFTER_ENTITIES) 에서 호출됩니다. 보이는 빔들을 모두 그립니다.
+     */
+    public static void render(WorldRenderContext context) {
+        if (!TesseractRenderConfig.linkBeams || networks.isEmpty()) return;
+
+        VertexConsumerProvider consumers = context.consumers();
+        if (consumers == null) return;
+
+        long start = System.nanoTime();
+        try {
+            renderNetworks(context, consumers);
+        } catch (Exception e) {
+            // 렌더링 오류 발생 시 이번 프레임만 건너뜀 (처음 한 번만 로그)
+            TesseractDebugValidation.reportFailure("TesseractLinkBeams", e);
+        } finally {
+            lineCount = 0;
+            TesseractQualityGovernor.addNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static void renderNetworks(WorldRenderContext context, VertexConsumerProvider consumers) {
+        MatrixStack.Entry view = context.matrixStack().peek();
+        Matrix4f viewMatrix = view.getPositionMatrix();
+        Vec3d camera = context.camera().getPos();
+        double cutoff = TesseractRenderConfig.lodCutoffDistance;
+        double ribbonDistance = TesseractRenderConfig.lodLinesDistance;
+        float time = TesseractAnimationClock.getBlockTime(0, 1);
+
+        VertexConsumer ribbons = null;
+        for (LinkNetwork network : networks.values()) {
+            // 네트워크 전체가 보이지 않거나 차단 거리 밖이면 빔을 하나도 보지 않음
+            if (network.distanceSqTo(camera) >= cutoff * cutoff) continue;
+            if (!TesseractCulling.isBoxVisible(network.minX, network.minY, network.minZ,
+                    network.maxX, network.maxY, network.maxZ)) continue;
+
+            network.updateColor(time);
+            for (int beam = 0; beam < network.beamCount(); beam++) {
+                double distanceSq = network.beamDistanceSqTo(beam, camera);
+                if (distanceSq >= cutoff * cutoff) continue;
+                if (!network.isBeamVisible(beam)) continue;
+
+                if (distanceSq >= ribbonDistance * ribbonDistance) {
+                    // 선 레이어로 바꾸면 띠 출력이 끊기므로 마지막에 한 번에
+                    addLineBeam(network, beam);
+                    continue;
+                }
+
+                if (ribbons == null) {
+                    ribbons = consumers.getBuffer(TesseractRenderLayers.WIREFRAME_TRANSLUCENT);
+                }
+                emitRibbon(ribbons, viewMatrix, camera, network, beam);
+            }
+        }
+
+        if (lineCount > 0) {
+            emitLines(consumers.getBuffer(RenderLayer.getLines()), viewMatrix, view.getNormalMatrix(), camera);
+        }
+    }
+
+    // 빔 방향과 카메라 방향에 수직인 띠 (정점 4개) - WIREFRAME_TRANSLUCENT는 뒷면을 컬링하므로 카메라에서 봤을 때 반시계 방향
+    private static void emitRibbon(VertexConsumer vertexConsumer, Matrix4f viewMatrix, Vec3d camera,
+                                   LinkNetwork network, int beam) {
+        float startX = (float) (network.startX(beam) - camera.x);
+        float startY = (float) (network.startY(beam) - camera.y);
+        float startZ = (float) (network.startZ(beam) - camera.z);
+        float endX = (float) (network.endX(beam) - camera.x);
+        float endY = (float) (network.endY(beam) - camera.y);
+        float endZ = (float) (network.endZ(beam) - camera.z);
+
+        // 카메라 기준 좌표이므로 중점의 음수가 카메라 방향
+        float dirX = endX - startX;
+        float dirY = endY - startY;
+        float dirZ = endZ - startZ;
+        float midX = (startX + endX) * 0.5f;
+        float midY = (startY + endY) * 0.5f;
+        float midZ = (startZ + endZ) * 0.5f;
+        float sideX = dirY * midZ - dirZ * midY;
+        float sideY = dirZ * midX - dirX * midZ;
+        float sideZ = dirX * midY - dirY * midX;
+        float sideLengthSq = sideX * sideX + sideY * sideY + sideZ * sideZ;
+        if (sideLengthSq < 1.0e-8f) return;
+
+        float scale = BEAM_HALF_WIDTH / (float) Math.sqrt(sideLengthSq);
+        sideX *= scale;
+        sideY *= scale;
+        sideZ *= scale;
+
+        // side = dir x mid 이므로 (+side, -side, 끝 -side, 끝 +side) 순서의 면 법선 -side x dir 이 카메라 쪽 (-mid)
+        if (TesseractDebugValidation.isEnabled() && !isFacingCamera(dirX, dirY, dirZ, sideX, sideY, sideZ, midX, midY, midZ)) {
+            TesseractDebugValidation.reportInvalid("TesseractLinkBeams", "ribbon faces away from the camera");
+        }
+
+        float r = network.red;
+        float g = network.green;
+        float b = network.blue;
+        addRibbonVertex(vertexConsumer, viewMatrix, startX + sideX, startY + sideY, startZ + sideZ, r, g, b);
+        addRibbonVertex(vertexConsumer, viewMatrix, startX - sideX, startY - sideY, startZ - sideZ, r, g, b);
+        addRibbonVertex(vertexConsumer, viewMatrix, endX - sideX, endY - sideY, endZ - sideZ, r, g, b);
+        addRibbonVertex(vertexConsumer, viewMatrix, endX + sideX, endY + sideY, endZ + sideZ, r, g, b);
+    }
+
+    /**
+     * emitRibbon()의 정점 순서 (시작 +side, 시작 -side, 끝 -side, 끝 +side) 로 만든 면의 법선이 카메라 쪽인지.
+     * 좌표는 카메라 기준이므로 mid의 음수가 카메라 방향입니다 (디버그 검증용).
+     */
+    static boolean isFacingCamera(float dirX, float dirY, float dirZ, float sideX, float sideY, float sideZ,
+                                  float midX, float midY, float midZ) {
+        // 첫 변 (-2 side) x 둘째 변 (dir)
+        float normalX = -2.0f * (sideY * dirZ - sideZ * dirY);
+        float normalY = -2.0f * (sideZ * dirX - sideX * dirZ);
+        float normalZ = -2.0f * (sideX * dirY - sideY * dirX);
+        return normalX * midX + normalY * midY + normalZ * midZ < 0.0f;
+    }
+
+    private static void addRibbonVertex(VertexConsumer vertexConsumer, Matrix4f viewMatrix,
+                                        float x, float y, float z, float r, float g, float b) {
+        viewMatrix.transformPosition(x, y, z, scratchPosition);
+        vertexConsumer.vertex(scratchPosition.x, scratchPosition.y, scratchPosition.z)
+                .color(r, g, b, BEAM_ALPHA)
+                .next();
+    }
+
+    private static void addLineBeam(LinkNetwork network, int beam) {
+        if (lineCount == lineBeams.length) {
+            lineNetworks = Arrays.copyOf(lineNetworks, lineCount * 2);
+            lineBeams = Arrays.copyOf(lineBeams, lineCount * 2);
+        }
+        lineNetworks[lineCount] = network;
+        lineBeams[lineCount] = beam;
+        lineCount++;
+    }
+
+    private static void emitLines(VertexConsumer vertexConsumer, Matrix4f viewMatrix, Matrix3f normalMatrix, Vec3d camera) {
+        for (int i = 0; i < lineCount; i++) {
+            LinkNetwork network = lineNetworks[i];
+            int beam = lineBeams[i];
+            float startX = (float) (network.startX(beam) - camera.x);
+            float startY = (float) (network.startY(beam) - camera.y);
+            float startZ = (float) (network.startZ(beam) - camera.z);
+            float endX = (float) (network.endX(beam) - camera.x);
+            float endY = (float) (network.endY(beam) - camera.y);
+            float endZ = (float) (network.endZ(beam) - camera.z);
+
+            // 선 셰이더는 법선을 선 방향으로 사용
+            normalMatrix.transform(endX - startX, endY - startY, endZ - startZ, scratchNormal);
+            if (scratchNormal.lengthSquared() < 1.0e-8f) continue;
+            scratchNormal.normalize();
+
+            addLineVertex(vertexConsumer, viewMatrix, startX, startY, startZ, network);
+            addLineVertex(vertexConsumer, viewMatrix, endX, endY, endZ, network);
+            lineNetworks[i] = null;
+        }
+    }
+
+    private static void addLineVertex(VertexConsumer vertexConsumer, Matrix4f viewMatrix,
+                                      float x, float y, float z, LinkNetwork network) {
+        viewMatrix.transformPosition(x, y, z, scratchPosition);
+        vertexConsumer.vertex(scratchPosition.x, scratchPosition.y, scratchPosition.z)
+                .color(network.red, network.green, network.blue, 1f)
+                .normal(scratchNormal.x, scratchNormal.y, scratchNormal.z)
+                .next();
+    }
+
+    /**
+     * 네트워크 하나의 빔 트리. 빔 i는 블록 중심 좌표의 (starts[i], ends[i]) 이고 경계 상자는 모든 멤버를 감쌉니다.
+     */
+    private static final class LinkNetwork {
+        // 빔 끝점 (x, y, z 반복, 블록 중심)
+        private final double[] starts;
+        private final double[] ends;
+        private final double minX;
+        private final double minY;
+        private final double minZ;
+        private final double maxX;
+        private final double maxY;
+        private final double maxZ;
+        private final float hue;
+
+        private float red;
+        private float green;
+        private float blue;
+
+        LinkNetwork(UUID networkId, long[] members) {
+            int count = members.length;
+            double[] xs = new double[count];
+            double[] ys = new double[count];
+            double[] zs = new double[count];
+            double lowX = Double.MAX_VALUE, lowY = Double.MAX_VALUE, lowZ = Double.MAX_VALUE;
+            double highX = -Double.MAX_VALUE, highY = -Double.MAX_VALUE, highZ = -Double.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                xs[i] = BlockPos.unpackLongX(members[i]) + 0.5;
+                ys[i] = BlockPos.unpackLongY(members[i]) + 0.5;
+                zs[i] = BlockPos.unpackLongZ(members[i]) + 0.5;
+                lowX = Math.min(lowX, xs[i]);
+                lowY = Math.min(lowY, ys[i]);
+                lowZ = Math.min(lowZ, zs[i]);
+                highX = Math.max(highX, xs[i]);
+                highY = Math.max(highY, ys[i]);
+                highZ = Math.max(highZ, zs[i]);
+            }
+            this.minX = lowX - BEAM_HALF_WIDTH;
+            this.minY = lowY - BEAM_HALF_WIDTH;
+            this.minZ = lowZ - BEAM_HALF_WIDTH;
+            this.maxX = highX + BEAM_HALF_WIDTH;
+            this.maxY = highY + BEAM_HALF_WIDTH;
+            this.maxZ = highZ + BEAM_HALF_WIDTH;
+            // 네트워크마다 고정된 색조
+            this.hue = (networkId.hashCode() & 0xFFFF) / 65536.0f;
+
+            int[] parents = count <= SPANNING_TREE_LIMIT ? buildSpanningTree(xs, ys, zs) : buildStar(xs, ys, zs);
+            this.starts = new double[(count - 1) * 3];
+            this.ends = new double[(count - 1) * 3];
+            int beam = 0;
+            for (int i = 0; i < count; i++) {
+                int parent = parents[i];
+                if (parent < 0) continue;
+
+                starts[beam * 3] = xs[parent];
+                starts[beam * 3 + 1] = ys[parent];
+                starts[beam * 3 + 2] = zs[parent];
+                ends[beam * 3] = xs[i];
+                ends[beam * 3 + 1] = ys[i];
+                ends[beam * 3 + 2] = zs[i];
+                beam++;
+            }
+        }
+
+        // 프림 알고리즘 - 각 멤버의 부모 (루트는 -1)
+        private static int[] buildSpanningTree(double[] xs, double[] ys, double[] zs) {
+            int count = xs.length;
+            int[] parents = new int[count];
+            double[] bestDistanceSq = new double[count];
+            boolean[] inTree = new boolean[count];
+            Arrays.fill(bestDistanceSq, Double.MAX_VALUE);
+            parents[0] = -1;
+            bestDistanceSq[0] = 0.0;
+
+            for (int added = 0; added < count; added++) {
+                int next = -1;
+                for (int i = 0; i < count; i++) {
+                    if (!inTree[i] && (next < 0 || bestDistanceSq[i] < bestDistanceSq[next])) {
+                        next = i;
+                    }
+                }
+                inTree[next] = true;
+
+                for (int i = 0; i < count; i++) {
+                    if (inTree[i]) continue;
+
+                    double dx = xs[i] - xs[next];
+                    double dy = ys[i] - ys[next];
+                    double dz = zs[i] - zs[next];
+                    double distanceSq = dx * dx + dy * dy + dz * dz;
+                    if (distanceSq < bestDistanceSq[i]) {
+                        bestDistanceSq[i] = distanceSq;
+                        parents[i] = next;
+                    }
+                }
+            }
+            return parents;
+        }
+
+        // 무게중심에 가장 가까운 멤버를 허브로 한 별 모양
+        private static int[] buildStar(double[] xs, double[] ys, double[] zs) {
+            int count = xs.length;
+            double centerX = 0.0, centerY = 0.0, centerZ = 0.0;
+            for (int i = 0; i < count; i++) {
+                centerX += xs[i];
+                centerY += ys[i];
+                centerZ += zs[i];
+            }
+            centerX /= count;
+            centerY /= count;
+            centerZ /= count;
+
+            int hub = 0;
+            double hubDistanceSq = Double.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                double dx = xs[i] - centerX;
+                double dy = ys[i] - centerY;
+                double dz = zs[i] - centerZ;
+                double distanceSq = dx * dx + dy * dy + dz * dz;
+                if (distanceSq < hubDistanceSq) {
+                    hubDistanceSq = distanceSq;
+                    hub = i;
+                }
+            }
+
+            int[] parents = new int[count];
+            Arrays.fill(parents, hub);
+            parents[hub] = -1;
+            return parents;
+        }
+
+        int beamCount() {
+            return starts.length / 3;
+        }
+
+        double startX(int beam) {
+            return starts[beam * 3];
+        }
+
+        double startY(int beam) {
+            return starts[beam * 3 + 1];
+        }
+
+        double startZ(int beam) {
+            return starts[beam * 3 + 2];
+        }
+
+        double endX(int beam) {
+            return ends[beam * 3];
+        }
+
+        double endY(int beam) {
+            return ends[beam * 3 + 1];
+        }
+
+        double endZ(int beam) {
+            return ends[beam * 3 + 2];
+        }
+
+        // 카메라에서 경계 상자까지의 거리 제곱 (안에 있으면 0)
+        double distanceSqTo(Vec3d camera) {
+            double dx = Math.max(0.0, Math.max(minX - camera.x, camera.x - maxX));
+            double dy = Math.max(0.0, Math.max(minY - camera.y, camera.y - maxY));
+            double dz = Math.max(0.0, Math.max(minZ - camera.z, camera.z - maxZ));
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        // 카메라에서 빔 선분의 가장 가까운 점까지의 거리 제곱
+        double beamDistanceSqTo(int beam, Vec3d camera) {
+            double ax = startX(beam), ay = startY(beam), az = startZ(beam);
+            double dx = endX(beam) - ax, dy = endY(beam) - ay, dz = endZ(beam) - az;
+            double lengthSq = dx * dx + dy * dy + dz * dz;
+            double t = lengthSq > 0.0
+                    ? MathHelper.clamp(((camera.x - ax) * dx + (camera.y - ay) * dy + (camera.z - az) * dz) / lengthSq, 0.0, 1.0)
+                    : 0.0;
+            double px = ax + dx * t - camera.x;
+            double py = ay + dy * t - camera.y;
+            double pz = az + dz * t - camera.z;
+            return px * px + py * py + pz * pz;
+        }
+
+        boolean isBeamVisible(int beam) {
+            return TesseractCulling.isBoxVisible(
+                    Math.min(startX(beam), endX(beam)) - BEAM_HALF_WIDTH,
+                    Math.min(startY(beam), endY(beam)) - BEAM_HALF_WIDTH,
+                    Math.min(startZ(beam), endZ(beam)) - BEAM_HALF_WIDTH,
+                    Math.max(startX(beam), endX(beam)) + BEAM_HALF_WIDTH,
+                    Math.max(startY(beam), endY(beam)) + BEAM_HALF_WIDTH,
+                    Math.max(startZ(beam), endZ(beam)) + BEAM_HALF_WIDTH);
+        }
+
+        // 네트워크 색조에 테서랙트와 같은 주기로 밝기만 맥동
+        void updateColor(float time) {
+            float brightness = 0.8f + 0.2f * (float) Math.sin(time * 2.0f);
+            int rgb = MathHelper.hsvToRgb(hue, 0.6f, brightness);
+            red = ((rgb >> 16) & 0xFF) / 255.0f;
+            green = ((rgb >> 8) & 0xFF) / 255.0f;
+            blue = (rgb & 0xFF) / 255.0f;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package cat.lacycat.tesseracts.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * 카메라 거리에 따른 블록 테서랙트의 LOD 단계 선택.
+ * 경계 근처에서 단계가 매 프레임 바뀌며 깜빡이지 않도록 블록마다 마지막 단계를 기억하고,
+ * 경계에서 히스테리시스 거리만큼 더 벗어났을 때만 단계를 바꿉니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractLod {
+
+    /**
+     * LOD 단계 (가까운 순서).
+     */
+    public enum Tier {
+        // 전체 세그먼트 원기둥
+        FULL,
+        // 세그먼트 수를 줄인 원기둥
+        REDUCED,
+        // 모서리마다 선 하나
+        LINES
+    }
+
+    private static final Tier[] TIERS = Tier.values();
+
+    // 블록 위치(BlockPos.asLong) -> 마지막으로 선택된 단계
+    private static final Long2ByteOpenHashMap lastTiers = new Long2ByteOpenHashMap();
+
+    static {
+        lastTiers.defaultReturnValue((byte) -1);
+    }
+
+    private TesseractLod() {
+    }
+
+    /**
+     * 블록 위치와 카메라까지의 거리 제곱으로 이번 프레임의 LOD 단계를 고릅니다.
+     */
+    public static Tier select(BlockPos pos, double distanceSq) {
+        if (!TesseractRenderConfig.lodEnabled) return Tier.FULL;
+
+        double distance = Math.sqrt(distanceSq);
+        double hysteresis = TesseractRenderConfig.lodHysteresis;
+        long key = pos.asLong();
+        int previous = lastTiers.get(key);
+
+        int tier;
+        if (previous < 0) {
+            tier = tierFor(distance);
+        } else {
+            // 히스테리시스 거리만큼 가까워도 더 먼 단계라면 멀어진 것, 그만큼 멀어도 더 가까운 단계라면 가까워진 것
+            int farther = tierFor(distance - hysteresis);
+            int nearer = tierFor(distance + hysteresis);
+            if (farther > previous) {
+                tier = farther;
+            } else if (nearer < previous) {
+                tier = nearer;
+            } else {
+                tier = previous;
+            }
+        }
+
+        if (tier != previous) {
+            lastTiers.put(key, (byte) tier);
+        }
+        return TIERS[tier];
+    }
+
+    /**
+     * 언로드된 블록 엔티티의 단계 기록을 지웁니다.
+     */
+    public static void forget(BlockPos pos) {
+        lastTiers.remove(pos.asLong());
+    }
+
+    private static int tierFor(double distance) {
+        if (distance >= TesseractRenderConfig.lodLinesDistance) return Tier.LINES.ordinal();
+        if (distance >= TesseractRenderConfig.lodReducedDistance) return Tier.REDUCED.ordinal();
+        return Tier.FULL.ordinal();
+    }
+}
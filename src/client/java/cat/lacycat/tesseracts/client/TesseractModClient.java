@@ -1,11 +1,21 @@
 package cat.lacycat.tesseracts.client;
 
+import cat.lacycat.tesseracts.PolytopeBlockEntity;
+import cat.lacycat.tesseracts.TesseractBlockEntity;
 import cat.lacycat.tesseracts.TesseractMod;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
 import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientBlockEntityEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.model.loading.v1.ModelLoadingPlugin;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.BlockEntityRendererRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.BuiltinItemRenderer;
 import net.fabricmc.fabric.api.client.rendering.v1.BuiltinItemRendererRegistry;
+import net.fabricmc.fabric.api.client.rendering.v1.CoreShaderRegistrationCallback;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.RenderLayers;
@@ -13,8 +23,86 @@ import net.minecraft.client.render.RenderLayers;
 public class TesseractModClient implements ClientModInitializer {
     @Override
     public void onInitializeClient() {
+        TesseractRenderConfig.load();
+
         BlockRenderLayerMap.INSTANCE.putBlock(TesseractMod.TESSERACT_BLOCK, RenderLayer.getTranslucent());
         BlockEntityRendererRegistry.register(TesseractMod.TESSERACT_BLOCK_ENTITY, TesseractBlockEntityRenderer::new);
         BuiltinItemRendererRegistry.INSTANCE.register(TesseractMod.TESSERACT_ITEM, new TesseractItemRenderer());
+
+        // 다른 정칙 다포체 블록들 (표는 처음 그릴 때 만듦)
+        BlockEntityRendererRegistry.register(TesseractMod.POLYTOPE_BLOCK_ENTITY, PolytopeBlockEntityRenderer::new);
+        for (int i = 0; i < TesseractMod.POLYTOPE_BLOCKS.length; i++) {
+            BuiltinItemRendererRegistry.INSTANCE.register(TesseractMod.POLYTOPE_ITEMS[i],
+                    new PolytopeItemRenderer(TesseractMod.POLYTOPE_BLOCKS[i].getShape()));
+        }
+
+        // 매 프레임 계산 모드에서는 모든 위상 버킷의 투영을 월드 렌더 시작 때 투영 커널 한 번으로 계산
+        WorldRenderEvents.START.register(context -> {
+            if (!TesseractInstancedRenderer.isActive()) {
+                TesseractProjector.BLOCK.prepareSlots(TesseractAnimationClock.getFrame(), TesseractRenderConfig.phaseBuckets);
+            }
+        });
+
+        // 임포스터 아틀라스: 지난 프레임에 쓰였으면 설정한 주기로 버킷별 타일을 다시 그림 (버킷 투영 계산 뒤)
+        WorldRenderEvents.START.register(TesseractImpostors::refresh);
+
+        // GUI 아이템 캐시: 지난 프레임에 GUI 슬롯에서 쓰였으면 설정한 주기로 텍스처를 다시 그림
+        WorldRenderEvents.START.register(TesseractItemAtlas::refresh);
+
+        // 블록별 절두체 컬링용 절두체
+        WorldRenderEvents.AFTER_SETUP.register(TesseractCulling::captureFrustum);
+
+        // 클러스터를 그리는 멤버가 다른 멤버들의 블록 매트릭스를 만들 때 쓰는 뷰
+        WorldRenderEvents.AFTER_SETUP.register(TesseractClusters::captureView);
+
+        // 보이는 테서랙트들의 튜브 정점을 작업 스레드에서 미리 계산 (절두체를 받은 뒤에 실행되어야 함)
+        WorldRenderEvents.AFTER_SETUP.register(TesseractParallelPrecompute::schedule);
+        // 작업 스레드는 버킷별 투영 배열을 읽으므로 다음 프레임이 그 배열을 덮어쓰기 전에 (월드 렌더 끝) 반드시 기다림
+        WorldRenderEvents.END.register(TesseractParallelPrecompute::finishFrame);
+
+        // 일괄 렌더링 경로: 블록 엔티티들이 그려지기 직전에 보이는 테서랙트를 한 번에 그림
+        WorldRenderEvents.AFTER_ENTITIES.register(TesseractBatchRenderer::render);
+
+        // 네트워크 연결 빔: 네트워크마다 신장 트리의 빔들을 한 번에 그림, 연결이 끊기면 네트워크 목록을 비움
+        WorldRenderEvents.AFTER_ENTITIES.register(TesseractLinkBeams::render);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> TesseractLinkBeams.clear());
+
+        // 와이어프레임 전용 렌더 레이어의 셰이더
+        CoreShaderRegistrationCallback.EVENT.register(TesseractRenderLayers::registerShaders);
+
+        // 인스턴싱 경로: 셰이더 등록, 블록 엔티티 렌더링이 끝난 뒤 기록된 인스턴스를 한 번에 그림
+        CoreShaderRegistrationCallback.EVENT.register(TesseractInstancedRenderer::registerShaders);
+        WorldRenderEvents.BEFORE_DEBUG_RENDER.register(TesseractInstancedRenderer::render);
+
+        // 시간 LOD: 블록 엔티티 렌더링이 끝난 뒤 기록된 스트림을 GPU 버퍼에서 그림, 연결이 끊기면 버퍼를 모두 해제
+        WorldRenderEvents.BEFORE_DEBUG_RENDER.register(TesseractTemporalLod::render);
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> TesseractTemporalLod.clear());
+
+        // 먼 거리 정적 모델: 블록 상태 모델을 감싸고, 불러온 테서랙트들의 거리를 틱마다 확인
+        ModelLoadingPlugin.register(TesseractBakedFallback::initializeModels);
+        ColorProviderRegistry.BLOCK.register((state, world, pos, tintIndex) -> TesseractStaticModel.getEdgeColor(tintIndex),
+                TesseractMod.TESSERACT_BLOCK);
+        ClientTickEvents.END_CLIENT_TICK.register(TesseractBakedFallback::tick);
+
+        // 기하 계산 디버그 검증 전환 명령 (/tesseracts debug-validation)
+        ClientCommandRegistrationCallback.EVENT.register(TesseractDebugValidation::registerCommand);
+        ClientBlockEntityEvents.BLOCK_ENTITY_LOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof TesseractBlockEntity) {
+                TesseractBakedFallback.onLoad(blockEntity.getPos());
+                TesseractClusters.onLoad(blockEntity.getPos());
+            }
+        });
+
+        // 언로드된 테서랙트의 LOD 단계, 시간 LOD 스트림, 정적 모델 상태, 클러스터 정리 (다포체 블록은 LOD 단계만)
+        ClientBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> {
+            if (blockEntity instanceof TesseractBlockEntity) {
+                TesseractLod.forget(blockEntity.getPos());
+                TesseractTemporalLod.forget(blockEntity.getPos());
+                TesseractBakedFallback.onUnload(blockEntity.getPos());
+                TesseractClusters.onUnload(blockEntity.getPos());
+            } else if (blockEntity instanceof PolytopeBlockEntity) {
+                TesseractLod.forget(blockEntity.getPos());
+            }
+        });
     }
 }
\ No newline at end of file
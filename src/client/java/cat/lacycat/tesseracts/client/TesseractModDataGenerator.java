@@ -12,6 +12,7 @@ public class TesseractModDataGenerator implements DataGeneratorEntrypoint {
         FabricDataGenerator.Pack pack = fabricDataGenerator.createPack();
         pack.addProvider(ItemModelProvider::new);
         pack.addProvider(RecipeProvider::new);
+        pack.addProvider(TesseractKeyframeProvider::new);
     }
 
 }
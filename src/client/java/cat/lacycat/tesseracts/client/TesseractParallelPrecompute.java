@@ -0,0 +1,344 @@
+package cat.lacycat.tesseracts.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 블록 테서랙트 튜브 정점의 병렬 미리 계산.
+ *
+ * 월드 렌더 시작 (지형 설정 직후) 에 렌더 스레드가 보이는 테서랙트들의 LOD 단계, 위상, 매트릭스를 정하고,
+ * 튜브 정점 생성은 작업 스레드 풀에 나눠 맡깁니다. 작업 스레드들이 계산하는 동안 렌더 스레드는 지형과 엔티티를 그리고,
+ * 블록 엔티티 렌더러는 완성된 정점 데이터를 WIREFRAME 버퍼로 복사만 합니다.
+ * 매트릭스가 미리 계산한 것과 다르거나 (다른 렌더 패스) 목록에 없는 블록은 기존처럼 렌더 스레드에서 그립니다.
+ *
+ * 작업들은 투영기의 버킷별 배열을 복사 없이 읽으므로, 블록 엔티티가 하나도 그려지지 않은 프레임이라도
+ * 월드 렌더가 끝날 때 (finishFrame) 작업을 기다려서 다음 프레임의 투영 계산과 겹치지 않게 합니다.
+ */
+public final class TesseractParallelPrecompute {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    // 작업 하나가 맡는 블록 수 (이보다 크면 반으로 나눔)
+    private static final int BLOCKS_PER_TASK = 8;
+
+    private static final int EDGE_COUNT = TesseractProjector.TESSERACT_EDGES.length;
+
+    private static ForkJoinPool pool;
+    private static int poolThreads;
+
+    // 블록별 작업 (프레임마다 재사용) 과 위치별 조회
+    private static final ArrayList<Job> jobs = new ArrayList<>();
+    private static int jobCount = 0;
+    private static final Long2ObjectOpenHashMap<Job> jobsByPos = new Long2ObjectOpenHashMap<>();
+    private static long jobFrame = -1;
+    private static ForkJoinTask<?> pendingTask;
+    private static boolean failureLogged = false;
+
+    private static final ThreadLocal<WorkerState> workerState = ThreadLocal.withInitial(WorkerState::new);
+
+    private static final BlockPos.Mutable scratchPos = new BlockPos.Mutable();
+
+    private TesseractParallelPrecompute() {
+    }
+
+    /**
+     * 월드 렌더 이벤트 (AFTER_SETUP) 에서 호출됩니다. 보이는 테서랙트들을 모아 작업 스레드에 넘깁니다.
+     */
+    public static void schedule(WorldRenderContext context) {
+        finishPending();
+        jobsByPos.clear();
+        jobCount = 0;
+        jobFrame = -1;
+
+        // 반투명 모드는 블록마다 모서리를 정렬하므로 미리 계산한 불투명 튜브를 쓰지 않음
+        if (!TesseractRenderConfig.parallelPrecompute || TesseractRenderConfig.translucentEdges
+                || TesseractInstancedRenderer.isActive()) return;
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.world == null) return;
+
+        LongSet loaded = TesseractBakedFallback.getLoadedPositions();
+        if (loaded.size() < TesseractRenderConfig.parallelMinBlocks) return;
+
+        Vec3d camera = context.camera().getPos();
+        Matrix4f viewMatrix = context.matrixStack().peek().getPositionMatrix();
+        long frame = TesseractAnimationClock.getFrame();
+        int bucketCount = TesseractRenderConfig.phaseBuckets;
+        boolean keyframeTubes = TesseractBlockEntityRenderer.usesKeyframeTubes(
+                TesseractBlockEntityRenderer.getTubeEmitter());
+        double cutoff = TesseractRenderConfig.lodCutoffDistance;
+
+        LongIterator iterator = loaded.iterator();
+        while (iterator.hasNext()) {
+            long key = iterator.nextLong();
+            BlockPos pos = scratchPos.set(key);
+
+            // 블록 엔티티 렌더러와 같은 조건으로 걸러냄
+            if (TesseractBakedFallback.isBaked(pos)) continue;
+            if (!TesseractCulling.isVisible(pos, TesseractBlockEntityRenderer.RENDER_EXTENT)) continue;
+            // 클러스터 멤버는 블록 엔티티 렌더러가 버킷별 템플릿을 복사해서 그림
+            if (TesseractClusters.getCluster(pos) != null) continue;
+
+            double distanceSq = camera.squaredDistanceTo(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5);
+            if (distanceSq >= cutoff * cutoff) continue;
+
+            TesseractLod.Tier tier = TesseractLod.select(pos, distanceSq);
+            if (tier == TesseractLod.Tier.LINES) continue; // 선은 미리 계산할 만큼 비싸지 않음
+
+            int bucket = TesseractBlockEntityRenderer.getPhaseBucket(pos, bucketCount);
+            float time = TesseractAnimationClock.getBlockTime(bucket, bucketCount);
+
+            int segments = tier == TesseractLod.Tier.REDUCED
+                    ? TesseractQualityGovernor.getReducedSegments() : TesseractQualityGovernor.getFullSegments();
+
+            // 시간 LOD로 이번 프레임에 복사만 할 블록은 계산하지 않음
+            TesseractTemporalLod.Stream stream = TesseractTemporalLod.lookup(pos, distanceSq, segments);
+            if (stream != null && stream.isCurrent()) continue;
+
+            Job job = nextJob();
+            // BlockEntityRenderDispatcher와 같은 순서로 매트릭스를 만들어야 렌더 때 비교가 정확히 맞음
+            job.entryMatrix.set(viewMatrix).translate(
+                    (float) (pos.getX() - camera.x), (float) (pos.getY() - camera.y), (float) (pos.getZ() - camera.z));
+            // 시간 LOD 스트림을 갱신할 블록은 스트림에 넣을 블록 로컬 정점으로 계산
+            job.blockLocal = stream != null;
+            if (job.blockLocal) {
+                job.positionMatrix.translation(0.5f, 0.5f, 0.5f);
+            } else {
+                job.positionMatrix.set(job.entryMatrix).translate(0.5f, 0.5f, 0.5f);
+            }
+            float billboardAngle = TesseractBlockEntityRenderer.getBillboardAngle(client, pos);
+            if (billboardAngle != 0.0f) {
+                job.positionMatrix.rotateY(billboardAngle);
+            }
+
+            job.time = time;
+            job.segments = segments;
+            job.vertexCount = -1;
+            // 투영 결과는 버킷마다 한 번만 계산되고 작업 스레드들은 읽기만 함
+            if (tier == TesseractLod.Tier.FULL && keyframeTubes) {
+                job.tubeRings = TesseractProjector.BLOCK.getKeyframeTubeRings(bucket, frame, time);
+                job.vertices = null;
+            } else {
+                job.vertices = TesseractProjector.BLOCK.getProjectedVertices(bucket, frame, time);
+                job.tubeRings = null;
+            }
+            jobsByPos.put(key, job);
+        }
+
+        if (jobCount < TesseractRenderConfig.parallelMinBlocks) {
+            jobsByPos.clear();
+            jobCount = 0;
+            return;
+        }
+
+        jobFrame = frame;
+        pendingTask = getPool().submit(new JobRange(0, jobCount));
+    }
+
+    /**
+     * 월드 렌더 이벤트 (END) 에서 호출됩니다. 진행 중인 작업을 기다립니다 (결과는 이번 프레임 안에서만 씀).
+     */
+    public static void finishFrame(WorldRenderContext context) {
+        finishPending();
+    }
+
+    /**
+     * 이 블록의 튜브가 미리 계산되어 있으면 WIREFRAME 버퍼로 복사하고 true를 돌려줍니다.
+     *
+     * @param entryMatrix 블록 엔티티 렌더러가 받은 매트릭스 (미리 계산한 매트릭스와 허용 오차 안에서 같아야 함)
+     * @param emitter 렌더러의 튜브 출력기 (복사에만 사용)
+     * @param stream 시간 LOD 스트림 (있으면 블록 로컬 결과를 GPU 버퍼에 올리고 entryMatrix로 그리도록 기록, 없으면 null)
+     */
+    static boolean emit(BlockPos pos, Matrix4f entryMatrix, VertexConsumerProvider vertexConsumers,
+                        CylinderTubeEmitter emitter, TesseractTemporalLod.Stream stream) {
+        Job job = findJob(pos, entryMatrix, stream);
+        if (job == null) return false;
+
+        // 스트림으로 그리면 WIREFRAME 버퍼가 필요 없음 (레이어를 바꾸지 않음)
+        emitJob(job, stream == null ? vertexConsumers.getBuffer(TesseractRenderLayers.WIREFRAME) : null,
+                entryMatrix, emitter, stream);
+        return true;
+    }
+
+    /**
+     * emit()과 같지만 이미 받아 둔 WIREFRAME 버퍼에 바로 복사합니다 (일괄 렌더링용).
+     */
+    static boolean emit(BlockPos pos, Matrix4f entryMatrix, VertexConsumer vertexConsumer,
+                        CylinderTubeEmitter emitter, TesseractTemporalLod.Stream stream) {
+        Job job = findJob(pos, entryMatrix, stream);
+        if (job == null) return false;
+
+        emitJob(job, vertexConsumer, entryMatrix, emitter, stream);
+        return true;
+    }
+
+    private static void emitJob(Job job, VertexConsumer vertexConsumer, Matrix4f entryMatrix,
+                                CylinderTubeEmitter emitter, TesseractTemporalLod.Stream stream) {
+        if (stream != null) {
+            stream.upload(emitter, job.data, job.vertexCount);
+            stream.draw(entryMatrix);
+        } else {
+            emitter.emitPrecomputed(vertexConsumer, job.data, job.vertexCount);
+        }
+    }
+
+    // 이번 프레임에 이 블록과 매트릭스로 계산이 끝난 작업 (없거나 실패했거나 스트림 유무가 다르면 null)
+    private static Job findJob(BlockPos pos, Matrix4f entryMatrix, TesseractTemporalLod.Stream stream) {
+        if (jobFrame != TesseractAnimationClock.getFrame() || jobsByPos.isEmpty()) return null;
+
+        Job job = jobsByPos.get(pos.asLong());
+        if (job == null) return null;
+
+        if (!finishPending()) return null;
+        if (job.vertexCount < 0 || !TesseractClusters.isSameBlockMatrix(job.entryMatrix, entryMatrix)) return null;
+        if (job.blockLocal != (stream != null)) return null;
+        return job;
+    }
+
+    // 진행 중인 작업을 기다림 - 실패하면 이번 프레임의 결과를 모두 버리고 false
+    private static boolean finishPending() {
+        ForkJoinTask<?> task = pendingTask;
+        if (task == null) return true;
+
+        pendingTask = null;
+        try {
+            task.join();
+            return true;
+        } catch (RuntimeException e) {
+            if (!failureLogged) {
+                LOGGER.error("Parallel tesseract precompute failed, rendering on the render thread", e);
+                failureLogged = true;
+            }
+            jobsByPos.clear();
+            jobCount = 0;
+            jobFrame = -1;
+            return false;
+        }
+    }
+
+    private static Job nextJob() {
+        if (jobCount == jobs.size()) {
+            jobs.add(new Job());
+        }
+        return jobs.get(jobCount++);
+    }
+
+    private static ForkJoinPool getPool() {
+        int threads = TesseractRenderConfig.parallelThreads > 0
+                ? TesseractRenderConfig.parallelThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+        if (pool == null || poolThreads != threads) {
+            if (pool != null) pool.shutdown();
+            pool = new ForkJoinPool(threads, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Tesseract-Precompute-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+            poolThreads = threads;
+            LOGGER.info("Started tesseract precompute pool with {} threads", threads);
+        }
+        return pool;
+    }
+
+    /**
+     * 블록 하나의 미리 계산 작업. 렌더 스레드가 입력을 채우고 작업 스레드가 data와 vertexCount를 채웁니다.
+     */
+    private static final class Job {
+        final Matrix4f entryMatrix = new Matrix4f();
+        final Matrix4f positionMatrix = new Matrix4f();
+        // true면 positionMatrix에 뷰가 없음 (시간 LOD 스트림용 블록 로컬 정점)
+        boolean blockLocal;
+        Vector3f[] vertices;
+        float[] tubeRings;
+        float time;
+        // 튜브 세그먼트 수 (렌더 스레드에서 품질 조절기 값으로 정함)
+        int segments;
+
+        ByteBuffer data = ByteBuffer.allocate(0);
+        int vertexCount = -1;
+
+        void compute(WorkerState state) {
+            TesseractBlockEntityRenderer.fillEdgeColors(time, state.edgeColors);
+
+            CylinderTubeEmitter emitter = state.getEmitter(segments);
+            int capacity = EDGE_COUNT * emitter.getVerticesPerEdge() * CylinderTubeEmitter.VERTEX_SIZE;
+            if (data.capacity() < capacity) {
+                data = ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+            }
+
+            if (tubeRings != null) {
+                vertexCount = state.fullEmitter.writeEdgeRings(data, positionMatrix, tubeRings, EDGE_COUNT,
+                        state.edgeColors, 1f);
+            } else {
+                vertexCount = emitter.writeEdges(data, positionMatrix, vertices,
+                        TesseractProjector.TESSERACT_EDGES, state.edgeColors, 1f);
+            }
+        }
+    }
+
+    /**
+     * 작업 스레드별 튜브 출력기와 스크래치 (CylinderTubeEmitter는 스레드 안전하지 않음).
+     */
+    private static final class WorkerState {
+        final CylinderTubeEmitter fullEmitter = new CylinderTubeEmitter(
+                TesseractBlockEntityRenderer.CYLINDER_SEGMENTS, TesseractBlockEntityRenderer.CYLINDER_RADIUS);
+        final float[] edgeColors = new float[EDGE_COUNT * 3];
+        // 세그먼트 수별 출력기 (필요할 때 만듦)
+        final CylinderTubeEmitter[] emitters = new CylinderTubeEmitter[TesseractBlockEntityRenderer.CYLINDER_SEGMENTS + 1];
+
+        CylinderTubeEmitter getEmitter(int segments) {
+            if (segments == fullEmitter.getSegments()) return fullEmitter;
+            if (emitters[segments] == null) {
+                emitters[segments] = new CylinderTubeEmitter(segments, TesseractBlockEntityRenderer.CYLINDER_RADIUS);
+            }
+            return emitters[segments];
+        }
+    }
+
+    /**
+     * jobs[start, end) 범위를 계산하는 분할 작업.
+     */
+    private static final class JobRange extends RecursiveAction {
+        private final int start;
+        private final int end;
+
+        JobRange(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > BLOCKS_PER_TASK) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new JobRange(start, middle), new JobRange(middle, end));
+                return;
+            }
+
+            WorkerState state = workerState.get();
+            for (int i = start; i < end; i++) {
+                jobs.get(i).compute(state);
+            }
+        }
+    }
+}
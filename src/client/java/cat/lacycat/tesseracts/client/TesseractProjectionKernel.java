@@ -0,0 +1,32 @@
+package cat.lacycat.tesseracts.client;
+
+/**
+ * 4D 정점 변환 + 원근 투영 커널. 정점은 구조체 배열이 아닌 성분별 배열(SoA)로 받고,
+ * 매트릭스 여러 개(슬롯이나 키프레임마다 하나)에 대한 투영을 한 번에 계산합니다.
+ *
+ * 매트릭스마다 x' = M·v 를 구한 뒤 scale = projectionScale / max(|w' + wOffset|, 0.5) 로 나누고
+ * (scale이 유한하지 않으면 projectionScale), 각 좌표를 ±limit로 제한합니다.
+ */
+public interface TesseractProjectionKernel {
+
+    /**
+     * @param matrices 매트릭스 matrixCount개 (JOML Matrix4f.get(float[]) 순서, 매트릭스당 16개)
+     * @param vx 정점 x 성분 (vertexCount개, vy/vz/vw도 같음)
+     * @param outX 결과 x 성분 (매트릭스 m의 정점 i는 m * vertexCount + i, outY/outZ도 같음)
+     */
+    void project(float[] matrices, int matrixCount, float[] vx, float[] vy, float[] vz, float[] vw, int vertexCount,
+                 float wOffset, float projectionScale, float limit, float[] outX, float[] outY, float[] outZ);
+
+    /**
+     * project()와 같지만 분모 하한, 유한성 검사, 좌표 제한이 없는 직선 계산입니다.
+     * 직교 회전 매트릭스와 w' + wOffset이 항상 0.5 이상이고 결과가 제한 안에 든다고 증명된 입력에만 씁니다
+     * (TesseractProjector 생성자 참고). 그런 입력에서는 project()와 결과가 같습니다.
+     */
+    void projectTrusted(float[] matrices, int matrixCount, float[] vx, float[] vy, float[] vz, float[] vw, int vertexCount,
+                        float wOffset, float projectionScale, float[] outX, float[] outY, float[] outZ);
+
+    /**
+     * 로그에 표시할 커널 이름.
+     */
+    String getName();
+}
@@ -0,0 +1,122 @@
+package cat.lacycat.tesseracts.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Random;
+
+/**
+ * 사용할 투영 커널을 고릅니다.
+ * 벡터 커널은 JVM을 --add-modules jdk.incubator.vector 로 실행했고 설정에서 끄지 않았을 때만 쓰며,
+ * 처음 한 번 고정된 입력으로 스칼라 커널과 결과를 비교해서 다르면 스칼라 커널로 돌아갑니다.
+ */
+public final class TesseractProjectionKernels {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    // 모듈이 없을 때 클래스가 링크되지 않도록 이름으로만 참조
+    private static final String VECTOR_KERNEL_CLASS = "cat.lacycat.tesseracts.client.VectorProjectionKernel";
+
+    private static TesseractProjectionKernel kernel;
+
+    private TesseractProjectionKernels() {
+    }
+
+    /**
+     * 현재 커널 (처음 호출될 때 고름).
+     */
+    public static TesseractProjectionKernel get() {
+        TesseractProjectionKernel current = kernel;
+        if (current == null) {
+            current = kernel = select();
+        }
+        return current;
+    }
+
+    private static TesseractProjectionKernel select() {
+        TesseractProjectionKernel scalar = ScalarProjectionKernel.INSTANCE;
+        if (!TesseractRenderConfig.simdProjection) return scalar;
+
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            LOGGER.info("{} is not available (add --add-modules {} to the JVM arguments), using scalar tesseract projection",
+                    VECTOR_MODULE, VECTOR_MODULE);
+            return scalar;
+        }
+
+        TesseractProjectionKernel vector;
+        try {
+            vector = (TesseractProjectionKernel) Class.forName(VECTOR_KERNEL_CLASS, true,
+                    TesseractProjectionKernels.class.getClassLoader()).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            LOGGER.warn("Failed to load vector tesseract projection kernel, using scalar", e);
+            return scalar;
+        }
+
+        if (!matchesScalar(vector)) {
+            LOGGER.warn("Vector tesseract projection kernel disagrees with scalar kernel, using scalar");
+            return scalar;
+        }
+
+        LOGGER.info("Using {} tesseract projection kernel", vector.getName());
+        return vector;
+    }
+
+    // 무작위 매트릭스와 레인 수로 나누어떨어지지 않는 정점 수로 두 커널의 결과를 비교
+    private static boolean matchesScalar(TesseractProjectionKernel candidate) {
+        Random random = new Random(0x7E55E2AC7L);
+        int matrixCount = 5;
+        int vertexCount = 19;
+
+        float[] matrices = new float[matrixCount * 16];
+        for (int i = 0; i < matrices.length; i++) {
+            matrices[i] = random.nextFloat() * 2.0f - 1.0f;
+        }
+        float[] vx = new float[vertexCount], vy = new float[vertexCount];
+        float[] vz = new float[vertexCount], vw = new float[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            vx[i] = random.nextFloat() - 0.5f;
+            vy[i] = random.nextFloat() - 0.5f;
+            vz[i] = random.nextFloat() - 0.5f;
+            vw[i] = random.nextFloat() - 0.5f;
+        }
+
+        int outCount = matrixCount * vertexCount;
+        float[] expectedX = new float[outCount], expectedY = new float[outCount], expectedZ = new float[outCount];
+        float[] actualX = new float[outCount], actualY = new float[outCount], actualZ = new float[outCount];
+        ScalarProjectionKernel.INSTANCE.project(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                2.5f, 0.4f, 2.0f, expectedX, expectedY, expectedZ);
+        try {
+            candidate.project(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                    2.5f, 0.4f, 2.0f, actualX, actualY, actualZ);
+        } catch (RuntimeException | LinkageError e) {
+            LOGGER.warn("Vector tesseract projection kernel failed", e);
+            return false;
+        }
+
+        if (!matches(expectedX, expectedY, expectedZ, actualX, actualY, actualZ)) return false;
+
+        // 검사 없는 경로도 비교 (정점 성분이 ±0.5라 |w'| <= 2 이므로 w' + 2.5 >= 0.5)
+        ScalarProjectionKernel.INSTANCE.projectTrusted(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                2.5f, 0.4f, expectedX, expectedY, expectedZ);
+        try {
+            candidate.projectTrusted(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                    2.5f, 0.4f, actualX, actualY, actualZ);
+        } catch (RuntimeException | LinkageError e) {
+            LOGGER.warn("Vector tesseract projection kernel failed", e);
+            return false;
+        }
+        return matches(expectedX, expectedY, expectedZ, actualX, actualY, actualZ);
+    }
+
+    private static boolean matches(float[] expectedX, float[] expectedY, float[] expectedZ,
+                                   float[] actualX, float[] actualY, float[] actualZ) {
+        for (int i = 0; i < expectedX.length; i++) {
+            if (Math.abs(expectedX[i] - actualX[i]) > 1.0e-4f
+                    || Math.abs(expectedY[i] - actualY[i]) > 1.0e-4f
+                    || Math.abs(expectedZ[i] - actualZ[i]) > 1.0e-4f) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
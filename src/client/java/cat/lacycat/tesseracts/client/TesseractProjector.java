@@ -0,0 +1,673 @@
+package cat.lacycat.tesseracts.client;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * 테서랙트의 4D 회전과 3D 투영을 담당합니다.
+ * 투영 결과는 슬롯(위상 버킷)마다 프레임 번호와 애니메이션 시간으로 캐시되므로, 같은 프레임에서 같은 슬롯을 요청하는
+ * 모든 블록 엔티티는 4D 계산 없이 같은 정점 배열을 공유합니다. 렌더 스레드 전용입니다.
+ * 키프레임 모드에서는 4D 계산 대신 미리 계산한 키프레임 표를 보간합니다.
+ */
+public class TesseractProjector {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    // 4D 테서렉트의 정점들 (단위 좌표, 크기는 인스턴스마다 조정)
+    private static final float[][] UNIT_VERTICES = {
+            // 첫 번째 큐브 (w = -1)
+            {-1, -1, -1, -1}, // 0
+            { 1, -1, -1, -1}, // 1
+            { 1,  1, -1, -1}, // 2
+            {-1,  1, -1, -1}, // 3
+            {-1, -1,  1, -1}, // 4
+            { 1, -1,  1, -1}, // 5
+            { 1,  1,  1, -1}, // 6
+            {-1,  1,  1, -1}, // 7
+
+            // 두 번째 큐브 (w = 1)
+            {-1, -1, -1,  1}, // 8
+            { 1, -1, -1,  1}, // 9
+            { 1,  1, -1,  1}, // 10
+            {-1,  1, -1,  1}, // 11
+            {-1, -1,  1,  1}, // 12
+            { 1, -1,  1,  1}, // 13
+            { 1,  1,  1,  1}, // 14
+            {-1,  1,  1,  1}  // 15
+    };
+
+    // 테서렉트의 모서리들
+    public static final int[][] TESSERACT_EDGES = {
+            // 첫 번째 큐브의 모서리들
+            {0, 1}, {1, 2}, {2, 3}, {3, 0}, // 아래 면
+            {4, 5}, {5, 6}, {6, 7}, {7, 4}, // 위 면
+            {0, 4}, {1, 5}, {2, 6}, {3, 7}, // 수직 모서리들
+
+            // 두 번째 큐브의 모서리들
+            {8, 9}, {9, 10}, {10, 11}, {11, 8}, // 아래 면
+            {12, 13}, {13, 14}, {14, 15}, {15, 12}, // 위 면
+            {8, 12}, {9, 13}, {10, 14}, {11, 15}, // 수직 모서리들
+
+            // 두 큐브를 연결하는 모서리들
+            {0, 8}, {1, 9}, {2, 10}, {3, 11},
+            {4, 12}, {5, 13}, {6, 14}, {7, 15}
+    };
+
+    // 4D 회전 평면들 (XY, XZ, XW, YZ, YW, ZW)
+    private static final int[][] AXIS_PAIRS = {{0,1}, {0,2}, {0,3}, {1,2}, {1,3}, {2,3}};
+
+    // 디버그 검증에서 회전 매트릭스의 직교성을 볼 때의 허용 오차
+    private static final float ORTHONORMAL_TOLERANCE = 1.0e-3f;
+
+    static {
+        // 모서리 표는 한 번만 검증하고, 렌더링 중에는 인덱스를 믿고 씀
+        for (int[] edge : TESSERACT_EDGES) {
+            if (edge.length != 2 || edge[0] == edge[1]
+                    || edge[0] < 0 || edge[0] >= UNIT_VERTICES.length
+                    || edge[1] < 0 || edge[1] >= UNIT_VERTICES.length) {
+                throw new IllegalStateException("Invalid tesseract edge " + Arrays.toString(edge));
+            }
+        }
+    }
+
+    /**
+     * 블록용 테서랙트: 크기 0.5, w + 2.5 원근 투영, 0.4 배율, ±2 제한.
+     */
+    public static final TesseractProjector BLOCK = new TesseractProjector(
+            0.5f, new float[]{0.1f, 0.08f, 0.12f, 0.09f, 0.11f, 0.07f}, 2.5f, 0.4f, 2.0f,
+            TesseractAnimationClock.BLOCK_PERIOD);
+
+    /**
+     * 아이템용 테서랙트: 크기 0.3, 더 느린 회전, w + 2.0 원근 투영, 0.6 배율, ±1.5 제한.
+     */
+    public static final TesseractProjector ITEM = new TesseractProjector(
+            0.3f, new float[]{0.05f, 0.04f, 0.06f, 0.045f, 0.055f, 0.035f}, 2.0f, 0.6f, 1.5f,
+            TesseractAnimationClock.ITEM_PERIOD);
+
+    // 크기를 적용한 4D 정점 (투영 커널용 성분별 배열)
+    private final float[] vertexX;
+    private final float[] vertexY;
+    private final float[] vertexZ;
+    private final float[] vertexW;
+    private final float halfSize;
+    // 모서리 정점 인덱스 쌍 (키프레임 튜브 스트림용)
+    private final int[][] edges;
+    private final float[] rotationRates;
+    private final float wOffset;
+    private final float projectionScale;
+    private final float coordinateLimit;
+    private final double period;
+
+    // 정점들의 최대 4D 길이 - 직교 회전 후에도 |w| 가 이 값을 넘지 않음
+    private final float maxVertexNorm;
+
+    // 직교 회전이면 분모 하한, 유한성 검사, 좌표 제한이 필요 없음을 생성 시 증명했는지 (projectTrusted 사용 가능)
+    private final boolean trustedProjection;
+
+    // 재사용 가능한 객체들로 GC 압박 줄이기
+    private final Matrix4f tempMatrix = new Matrix4f();
+    private final float[] rotationAngles;
+
+    // 캐시된 회전 매트릭스들
+    private final Matrix4f[] rotationMatrices = new Matrix4f[6];
+
+    // 투영 커널 입출력 스크래치 (매트릭스마다 16개, 정점마다 1개씩)
+    private float[] batchMatrices = new float[16];
+    private float[] batchX = new float[0];
+    private float[] batchY = new float[0];
+    private float[] batchZ = new float[0];
+    private int[] pendingSlots = new int[0];
+
+    // 슬롯별 투영 결과와 프레임 캐시 키 (슬롯마다 시간이 따로 흐르므로 쿼터니언 엔진도 슬롯별로 둠)
+    private Vector3f[][] slotVertices = new Vector3f[0][];
+    private IsoclinicRotation4D[] slotRotations = new IsoclinicRotation4D[0];
+    private long[] slotFrames = new long[0];
+    private float[] slotTimes = new float[0];
+
+    // 슬롯별 회전된 정점의 w 좌표 (반투명 모드의 깊이 페이드용)
+    private float[][] slotDepths = new float[0][];
+    private long[] slotDepthFrames = new long[0];
+    private float[] slotDepthTimes = new float[0];
+
+    // 키프레임 표와 슬롯별 보간된 튜브 링 데이터
+    private TesseractKeyframeAtlas keyframeAtlas;
+    private final IsoclinicRotation4D keyframeRotation;
+    private float[][] slotTubeRings = new float[0][];
+    private long[] slotTubeFrames = new long[0];
+    private float[] slotTubeTimes = new float[0];
+
+    public TesseractProjector(float halfSize, float[] rotationRates, float wOffset, float projectionScale,
+                              float coordinateLimit, double period) {
+        this(halfSize, TESSERACT_EDGES, scaledUnitVertices(0, halfSize), scaledUnitVertices(1, halfSize),
+                scaledUnitVertices(2, halfSize), scaledUnitVertices(3, halfSize),
+                rotationRates, wOffset, projectionScale, coordinateLimit, period);
+    }
+
+    /**
+     * 다른 정칙 다포체의 투영기. 정점은 외접 반지름 radius로 키웁니다 (테서랙트의 반크기 h는 반지름 2h).
+     */
+    public TesseractProjector(Polytope4D polytope, float radius, float[] rotationRates, float wOffset,
+                              float projectionScale, float coordinateLimit, double period) {
+        this(radius * 0.5f, polytope.getEdges(), polytope.getScaledComponent(0, radius),
+                polytope.getScaledComponent(1, radius), polytope.getScaledComponent(2, radius),
+                polytope.getScaledComponent(3, radius), rotationRates, wOffset, projectionScale, coordinateLimit, period);
+    }
+
+    private TesseractProjector(float halfSize, int[][] edges, float[] vertexX, float[] vertexY, float[] vertexZ,
+                               float[] vertexW, float[] rotationRates, float wOffset, float projectionScale,
+                               float coordinateLimit, double period) {
+        this.halfSize = halfSize;
+        this.edges = edges;
+        this.rotationRates = rotationRates.clone();
+        this.wOffset = wOffset;
+        this.projectionScale = projectionScale;
+        this.coordinateLimit = coordinateLimit;
+        this.period = period;
+        this.keyframeRotation = new IsoclinicRotation4D(rotationRates);
+        this.rotationAngles = new float[rotationRates.length];
+
+        this.vertexX = vertexX;
+        this.vertexY = vertexY;
+        this.vertexZ = vertexZ;
+        this.vertexW = vertexW;
+        this.maxVertexNorm = computeMaxVertexNorm();
+        this.trustedProjection = proveTrustedProjection();
+        if (!trustedProjection) {
+            LOGGER.warn("Tesseract projection parameters are not provably safe (w offset {}, scale {}, limit {}), "
+                    + "keeping checked projection", wOffset, projectionScale, coordinateLimit);
+        }
+        ensureSlots(1);
+
+        // 회전 매트릭스 배열 초기화
+        for (int i = 0; i < rotationMatrices.length; i++) {
+            rotationMatrices[i] = new Matrix4f();
+        }
+    }
+
+    /**
+     * 주어진 프레임/시간의 투영된 3D 정점들을 돌려줍니다 (슬롯 0).
+     */
+    public Vector3f[] getProjectedVertices(long frame, float time) {
+        return getProjectedVertices(0, frame, time);
+    }
+
+    /**
+     * 주어진 슬롯의 프레임/시간에 대한 투영된 3D 정점들을 돌려줍니다.
+     * 같은 프레임에서 같은 슬롯, 같은 시간으로 다시 요청하면 캐시된 배열을 그대로 돌려줍니다.
+     * 반환된 배열은 다음 계산 때 덮어써지므로 호출자가 보관하면 안 됩니다.
+     */
+    public Vector3f[] getProjectedVertices(int slot, long frame, float time) {
+        if (slot >= slotVertices.length) {
+            ensureSlots(slot + 1);
+        }
+
+        Vector3f[] projectedVertices = slotVertices[slot];
+        if (frame != slotFrames[slot] || time != slotTimes[slot]) {
+            if (TesseractRenderConfig.geometrySource == TesseractRenderConfig.GeometrySource.KEYFRAMES) {
+                TesseractKeyframeAtlas atlas = keyframeAtlas != null ? keyframeAtlas : getKeyframeAtlas(null);
+                atlas.sampleVertices(time, projectedVertices);
+            } else {
+                projectVerticesSafely(computeTotalRotation(slotRotations[slot], time), projectedVertices);
+            }
+            slotFrames[slot] = frame;
+            slotTimes[slot] = time;
+        }
+        return projectedVertices;
+    }
+
+    /**
+     * 주어진 슬롯의 프레임/시간에 대한 회전된 정점들의 w 좌표 (-getMaxVertexNorm() ~ getMaxVertexNorm()).
+     * 키프레임 모드에서도 회전만 다시 계산하므로 정점 16개의 내적 비용입니다. 슬롯 정점과 같은 방식으로 캐시됩니다.
+     */
+    public float[] getVertexDepths(int slot, long frame, float time) {
+        if (slot >= slotVertices.length) {
+            ensureSlots(slot + 1);
+        }
+
+        float[] depths = slotDepths[slot];
+        if (frame != slotDepthFrames[slot] || time != slotDepthTimes[slot]) {
+            Matrix4f rotation = computeTotalRotation(slotRotations[slot], time);
+            float m03 = rotation.m03(), m13 = rotation.m13(), m23 = rotation.m23(), m33 = rotation.m33();
+            for (int i = 0; i < depths.length; i++) {
+                depths[i] = m03 * vertexX[i] + m13 * vertexY[i] + m23 * vertexZ[i] + m33 * vertexW[i];
+            }
+            slotDepthFrames[slot] = frame;
+            slotDepthTimes[slot] = time;
+        }
+        return depths;
+    }
+
+    /**
+     * 주어진 슬롯의 프레임/시간에 대한 보간된 튜브 링 데이터 (모든 모서리, CylinderTubeEmitter 링 데이터 형식).
+     * getKeyframeAtlas()가 튜브를 포함한 표를 돌려줄 때만 사용할 수 있습니다. 슬롯 정점과 같은 방식으로 캐시됩니다.
+     */
+    public float[] getKeyframeTubeRings(int slot, long frame, float time) {
+        TesseractKeyframeAtlas atlas = keyframeAtlas;
+        if (atlas == null || !atlas.hasTubes()) {
+            throw new IllegalStateException("Keyframe atlas has no tube stream");
+        }
+
+        if (slot >= slotTubeRings.length) {
+            int oldCount = slotTubeRings.length;
+            slotTubeRings = Arrays.copyOf(slotTubeRings, slot + 1);
+            slotTubeFrames = Arrays.copyOf(slotTubeFrames, slot + 1);
+            slotTubeTimes = Arrays.copyOf(slotTubeTimes, slot + 1);
+            for (int i = oldCount; i <= slot; i++) {
+                slotTubeFrames[i] = -1;
+                slotTubeTimes[i] = Float.NaN;
+            }
+        }
+
+        float[] rings = slotTubeRings[slot];
+        if (rings == null || rings.length != atlas.getTubeFrameSize()) {
+            rings = slotTubeRings[slot] = new float[atlas.getTubeFrameSize()];
+            slotTubeFrames[slot] = -1;
+        }
+
+        if (frame != slotTubeFrames[slot] || time != slotTubeTimes[slot]) {
+            atlas.sampleTubes(time, rings);
+            slotTubeFrames[slot] = frame;
+            slotTubeTimes[slot] = time;
+        }
+        return rings;
+    }
+
+    /**
+     * 현재 설정에 맞는 키프레임 표를 돌려줍니다. 처음 요청되거나 설정(키프레임 수, 튜브 스트림, 튜브 세그먼트)이
+     * 바뀌었을 때만 새로 만듭니다.
+     *
+     * @param tubeEmitter 튜브 스트림을 만들 때 쓸 에미터 (튜브 스트림이 꺼져 있으면 무시)
+     */
+    public TesseractKeyframeAtlas getKeyframeAtlas(CylinderTubeEmitter tubeEmitter) {
+        int keyframeCount = TesseractRenderConfig.keyframeCount;
+        CylinderTubeEmitter emitter = TesseractRenderConfig.keyframeTubes ? tubeEmitter : null;
+
+        TesseractKeyframeAtlas atlas = keyframeAtlas;
+        if (atlas != null && atlas.getKeyframeCount() == keyframeCount) {
+            // 정점만 필요한 요청은 튜브가 있는 표로도 충분
+            if (emitter == null || atlas.getTubeSegments() == emitter.getSegments()) {
+                return atlas;
+            }
+        }
+
+        // 데이터 생성 때 구운 표가 현재 매개변수와 맞으면 계산 없이 사용
+        String bakedName = getBakedKeyframeName();
+        atlas = bakedName != null ? TesseractKeyframeAtlas.loadBaked(bakedName, this, keyframeCount, emitter) : null;
+        if (atlas != null) {
+            LOGGER.info("Loaded baked tesseract keyframe atlas '{}': {} keyframes, tubes {}, {} KB",
+                    bakedName, keyframeCount, atlas.hasTubes(), atlas.getMemoryBytes() / 1024);
+        } else {
+            atlas = new TesseractKeyframeAtlas(this, edges, keyframeCount, emitter);
+            LOGGER.info("Built tesseract keyframe atlas: {} keyframes, tubes {}, {} KB",
+                    keyframeCount, atlas.hasTubes(), atlas.getMemoryBytes() / 1024);
+        }
+        keyframeAtlas = atlas;
+        invalidateSlots();
+        return atlas;
+    }
+
+    /**
+     * 구운 키프레임 리소스 이름 (공유 블록/아이템 투영기만). 그 밖의 투영기는 null.
+     */
+    String getBakedKeyframeName() {
+        if (this == BLOCK) return "block";
+        if (this == ITEM) return "item";
+        return null;
+    }
+
+    /**
+     * 키프레임에 영향을 주는 매개변수 (정점, 모서리, 회전 속도, 투영 상수, 주기) 의 지문.
+     * 구운 키프레임 표가 이 투영기로 만든 것인지 확인할 때 씁니다.
+     */
+    int getKeyframeFingerprint() {
+        int hash = Arrays.hashCode(vertexX);
+        hash = 31 * hash + Arrays.hashCode(vertexY);
+        hash = 31 * hash + Arrays.hashCode(vertexZ);
+        hash = 31 * hash + Arrays.hashCode(vertexW);
+        hash = 31 * hash + Arrays.deepHashCode(edges);
+        hash = 31 * hash + Arrays.hashCode(rotationRates);
+        hash = 31 * hash + Float.hashCode(halfSize);
+        hash = 31 * hash + Float.hashCode(wOffset);
+        hash = 31 * hash + Float.hashCode(projectionScale);
+        hash = 31 * hash + Float.hashCode(coordinateLimit);
+        hash = 31 * hash + Double.hashCode(period);
+        return hash;
+    }
+
+    /**
+     * 주어진 시간의 투영된 정점들을 슬롯 캐시와 별개로 계산해서 dest에 씁니다 (정적 모델 생성용).
+     */
+    void computeKeyframe(float time, Vector3f[] dest) {
+        projectVerticesSafely(computeTotalRotation(keyframeRotation, time), dest);
+    }
+
+    /**
+     * 한 주기를 keyframeCount등분한 시간들의 투영된 정점을 dest에 [키프레임][정점][x, y, z] 순서로 씁니다.
+     * 회전 매트릭스를 모두 만든 뒤 투영 커널 한 번으로 모든 키프레임을 투영합니다.
+     */
+    void computeKeyframes(int keyframeCount, float[] dest) {
+        ensureBatchCapacity(keyframeCount);
+        for (int frame = 0; frame < keyframeCount; frame++) {
+            float time = (float) (period * frame / keyframeCount);
+            computeTotalRotation(keyframeRotation, time).get(batchMatrices, frame * 16);
+        }
+
+        int vertexCount = vertexX.length;
+        projectBatch(keyframeCount);
+        for (int i = 0; i < keyframeCount * vertexCount; i++) {
+            dest[i * 3] = batchX[i];
+            dest[i * 3 + 1] = batchY[i];
+            dest[i * 3 + 2] = batchZ[i];
+        }
+    }
+
+    /**
+     * 블록 위상 버킷 bucketCount개의 이번 프레임 투영을 한 번에 계산해서 슬롯 캐시를 채웁니다.
+     * 매 프레임 계산하는 모드(COMPUTED)에서만 의미가 있고, 월드 렌더 시작 시 호출됩니다.
+     */
+    public void prepareSlots(long frame, int bucketCount) {
+        if (TesseractRenderConfig.geometrySource != TesseractRenderConfig.GeometrySource.COMPUTED) return;
+
+        ensureSlots(bucketCount);
+        ensureBatchCapacity(bucketCount);
+
+        // 캐시가 이미 맞는 슬롯은 건너뛰고 나머지 매트릭스만 모음
+        if (pendingSlots.length < bucketCount) {
+            pendingSlots = new int[bucketCount];
+        }
+        int pendingCount = 0;
+        for (int slot = 0; slot < bucketCount; slot++) {
+            float time = TesseractAnimationClock.getBlockTime(slot, bucketCount);
+            if (frame == slotFrames[slot] && time == slotTimes[slot]) continue;
+
+            computeTotalRotation(slotRotations[slot], time).get(batchMatrices, pendingCount * 16);
+            slotFrames[slot] = frame;
+            slotTimes[slot] = time;
+            pendingSlots[pendingCount++] = slot;
+        }
+        if (pendingCount == 0) return;
+
+        int vertexCount = vertexX.length;
+        projectBatch(pendingCount);
+        for (int i = 0; i < pendingCount; i++) {
+            Vector3f[] projected = slotVertices[pendingSlots[i]];
+            int offset = i * vertexCount;
+            for (int v = 0; v < vertexCount; v++) {
+                projected[v].set(batchX[offset + v], batchY[offset + v], batchZ[offset + v]);
+            }
+        }
+    }
+
+    public double getPeriod() {
+        return period;
+    }
+
+    public int getVertexCount() {
+        return vertexX.length;
+    }
+
+    public float getHalfSize() {
+        return halfSize;
+    }
+
+    /**
+     * 모서리 정점 인덱스 쌍. 반환된 배열을 수정하면 안 됩니다.
+     */
+    public int[][] getEdges() {
+        return edges;
+    }
+
+    /**
+     * 평면별 회전 속도 (XY, XZ, XW, YZ, YW, ZW 순서). 반환된 배열을 수정하면 안 됩니다.
+     */
+    public float[] getRotationRates() {
+        return rotationRates;
+    }
+
+    public float getWOffset() {
+        return wOffset;
+    }
+
+    public float getProjectionScale() {
+        return projectionScale;
+    }
+
+    public float getMaxVertexNorm() {
+        return maxVertexNorm;
+    }
+
+    public float getCoordinateLimit() {
+        return coordinateLimit;
+    }
+
+    /**
+     * 투영된 정점(튜브 반지름 포함)이 중심에서 벗어날 수 있는 최대 거리.
+     * 4D 회전은 길이를 보존하므로 |v| <= 최대 정점 길이, |w| <= |v| 이고 원근 배율은 1 / max(wOffset - |v|, 0.5) 이하입니다.
+     * Y축 빌보드 회전에도 변하지 않는 구 반지름이라 축 정렬 상자의 반크기로 그대로 쓸 수 있습니다.
+     */
+    public float getMaxExtent(float tubeRadius) {
+        float vertexLength = maxVertexNorm;
+        float maxScale = 1.0f / Math.max(wOffset - vertexLength, 0.5f);
+        return vertexLength * maxScale * projectionScale + tubeRadius;
+    }
+
+    /**
+     * 단위 정점의 부호 비트 (x, y, z, w 순서로 비트 0..3, 양수면 1). 셰이더가 정점을 다시 만들 때 사용합니다.
+     */
+    public static int getUnitVertexSignBits(int index) {
+        float[] unit = UNIT_VERTICES[index];
+        int bits = 0;
+        for (int axis = 0; axis < 4; axis++) {
+            if (unit[axis] > 0) bits |= 1 << axis;
+        }
+        return bits;
+    }
+
+    // 단위 정점의 한 성분을 반크기로 키운 배열
+    private static float[] scaledUnitVertices(int axis, float halfSize) {
+        float[] component = new float[UNIT_VERTICES.length];
+        for (int i = 0; i < component.length; i++) {
+            component[i] = UNIT_VERTICES[i][axis] * halfSize;
+        }
+        return component;
+    }
+
+    // 표가 바뀌면 캐시된 슬롯 결과를 버림
+    private void invalidateSlots() {
+        Arrays.fill(slotFrames, -1);
+        Arrays.fill(slotTubeFrames, -1);
+    }
+
+    // 슬롯 배열을 필요한 만큼 늘림 (버킷 수 설정이 바뀔 때만 할당)
+    private void ensureSlots(int count) {
+        int oldCount = slotVertices.length;
+        if (count <= oldCount) return;
+
+        slotVertices = Arrays.copyOf(slotVertices, count);
+        slotRotations = Arrays.copyOf(slotRotations, count);
+        slotFrames = Arrays.copyOf(slotFrames, count);
+        slotTimes = Arrays.copyOf(slotTimes, count);
+        slotDepths = Arrays.copyOf(slotDepths, count);
+        slotDepthFrames = Arrays.copyOf(slotDepthFrames, count);
+        slotDepthTimes = Arrays.copyOf(slotDepthTimes, count);
+
+        for (int slot = oldCount; slot < count; slot++) {
+            Vector3f[] projected = new Vector3f[vertexX.length];
+            for (int i = 0; i < projected.length; i++) {
+                projected[i] = new Vector3f();
+            }
+            slotVertices[slot] = projected;
+            slotRotations[slot] = new IsoclinicRotation4D(rotationRates);
+            slotFrames[slot] = -1;
+            slotTimes[slot] = Float.NaN;
+            slotDepths[slot] = new float[vertexX.length];
+            slotDepthFrames[slot] = -1;
+            slotDepthTimes[slot] = Float.NaN;
+        }
+    }
+
+    private Matrix4f computeTotalRotation(IsoclinicRotation4D isoclinicRotation, float time) {
+        if (TesseractRenderConfig.rotationEngine == TesseractRenderConfig.RotationEngine.ISOCLINIC) {
+            isoclinicRotation.advanceTo(time);
+            return isoclinicRotation.toMatrix(tempMatrix);
+        }
+
+        // 4D 회전 매트릭스들을 미리 계산하고 재사용
+        createSafeRotationMatrices(time);
+
+        // 모든 4D 회전을 결합 (검사는 디버그 모드에서만)
+        Matrix4f totalRotation = tempMatrix.identity();
+        boolean validate = TesseractDebugValidation.isEnabled();
+        for (Matrix4f rotMatrix : rotationMatrices) {
+            if (validate && !isMatrixValid(rotMatrix)) {
+                TesseractDebugValidation.reportInvalid("TesseractProjector", "non-finite plane rotation at time " + time);
+                continue;
+            }
+            totalRotation.mul(rotMatrix);
+        }
+        return totalRotation;
+    }
+
+    private void createSafeRotationMatrices(float time) {
+        // 회전 속도를 더욱 줄여서 안정성 향상 (배열은 재사용)
+        for (int i = 0; i < rotationAngles.length; i++) {
+            rotationAngles[i] = time * rotationRates[i];
+        }
+
+        for (int i = 0; i < rotationMatrices.length; i++) {
+            createSafeRotationMatrix4D(rotationMatrices[i], AXIS_PAIRS[i][0], AXIS_PAIRS[i][1], rotationAngles[i]);
+        }
+    }
+
+    private void projectVerticesSafely(Matrix4f totalRotation, Vector3f[] projectedVertices) {
+        totalRotation.get(batchMatrices, 0);
+        projectBatch(1);
+        for (int i = 0; i < projectedVertices.length; i++) {
+            projectedVertices[i].set(batchX[i], batchY[i], batchZ[i]);
+        }
+    }
+
+    // batchMatrices의 매트릭스 matrixCount개로 모든 정점을 투영해서 batchX/Y/Z에 씀
+    // 릴리스 모드에서는 검사 없는 커널을, 디버그 모드에서는 매트릭스 검사 후 검사하는 커널을 씀
+    private void projectBatch(int matrixCount) {
+        ensureBatchCapacity(matrixCount);
+        TesseractProjectionKernel kernel = TesseractProjectionKernels.get();
+        if (trustedProjection && !TesseractDebugValidation.isEnabled()) {
+            kernel.projectTrusted(batchMatrices, matrixCount,
+                    vertexX, vertexY, vertexZ, vertexW, vertexX.length,
+                    wOffset, projectionScale, batchX, batchY, batchZ);
+            return;
+        }
+
+        if (TesseractDebugValidation.isEnabled()) {
+            validateMatrices(matrixCount);
+        }
+        kernel.project(batchMatrices, matrixCount,
+                vertexX, vertexY, vertexZ, vertexW, vertexX.length,
+                wOffset, projectionScale, coordinateLimit, batchX, batchY, batchZ);
+    }
+
+    // 투영 안전성 증명: 직교 회전은 정점의 4D 길이를 보존하므로 |w| <= 최대 정점 길이
+    // 분모 (w + wOffset) 가 하한 0.5 이상이고 최대 좌표가 제한 이하이면 검사하는 커널과 결과가 같음
+    private boolean proveTrustedProjection() {
+        float minDenominator = wOffset - maxVertexNorm;
+        return minDenominator >= 0.5f && maxVertexNorm * projectionScale / minDenominator <= coordinateLimit;
+    }
+
+    private float computeMaxVertexNorm() {
+        float maxNorm = 0.0f;
+        for (int i = 0; i < vertexX.length; i++) {
+            float norm = (float) Math.sqrt(vertexX[i] * vertexX[i] + vertexY[i] * vertexY[i]
+                    + vertexZ[i] * vertexZ[i] + vertexW[i] * vertexW[i]);
+            maxNorm = Math.max(maxNorm, norm);
+        }
+        return maxNorm;
+    }
+
+    // 디버그 모드: 배치의 매트릭스가 유한하고 직교인지 (증명의 전제) 확인
+    private void validateMatrices(int matrixCount) {
+        for (int m = 0; m < matrixCount; m++) {
+            int base = m * 16;
+            for (int a = 0; a < 4; a++) {
+                for (int b = a; b < 4; b++) {
+                    float dot = 0.0f;
+                    for (int k = 0; k < 4; k++) {
+                        dot += batchMatrices[base + a * 4 + k] * batchMatrices[base + b * 4 + k];
+                    }
+                    float expected = a == b ? 1.0f : 0.0f;
+                    if (!Float.isFinite(dot) || Math.abs(dot - expected) > ORTHONORMAL_TOLERANCE) {
+                        TesseractDebugValidation.reportInvalid("TesseractProjector",
+                                "rotation " + m + " is not orthonormal (columns " + a + ", " + b + ": " + dot + ")");
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void ensureBatchCapacity(int matrixCount) {
+        if (batchMatrices.length < matrixCount * 16) {
+            batchMatrices = Arrays.copyOf(batchMatrices, matrixCount * 16);
+        }
+        int outputSize = matrixCount * vertexX.length;
+        if (batchX.length < outputSize) {
+            batchX = new float[outputSize];
+            batchY = new float[outputSize];
+            batchZ = new float[outputSize];
+        }
+    }
+
+    // 4D 회전 매트릭스 생성 (안전장치 추가)
+    private void createSafeRotationMatrix4D(Matrix4f matrix, int axis1, int axis2, float angle) {
+        matrix.identity();
+
+        // 각도 범위 제한
+        angle = angle % (float)(2 * Math.PI);
+
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+
+        // NaN 체크 (유한한 각도에서는 항상 통과하므로 디버그 모드에서만)
+        if (TesseractDebugValidation.isEnabled() && (!Float.isFinite(cos) || !Float.isFinite(sin))) {
+            return; // 단위 행렬 유지
+        }
+
+        // 4x4 매트릭스에서 해당 축들에 대한 회전 설정
+        switch (axis1 * 10 + axis2) {
+            case 1: // XY 회전 (0,1)
+                matrix.m00(cos); matrix.m01(-sin);
+                matrix.m10(sin); matrix.m11(cos);
+                break;
+            case 2: // XZ 회전 (0,2)
+                matrix.m00(cos); matrix.m02(-sin);
+                matrix.m20(sin); matrix.m22(cos);
+                break;
+            case 3: // XW 회전 (0,3)
+                matrix.m00(cos); matrix.m03(-sin);
+                matrix.m30(sin); matrix.m33(cos);
+                break;
+            case 12: // YZ 회전 (1,2)
+                matrix.m11(cos); matrix.m12(-sin);
+                matrix.m21(sin); matrix.m22(cos);
+                break;
+            case 13: // YW 회전 (1,3)
+                matrix.m11(cos); matrix.m13(-sin);
+                matrix.m31(sin); matrix.m33(cos);
+                break;
+            case 23: // ZW 회전 (2,3)
+                matrix.m22(cos); matrix.m23(-sin);
+                matrix.m32(sin); matrix.m33(cos);
+                break;
+        }
+    }
+
+    // 매트릭스 유효성 검사
+    private boolean isMatrixValid(Matrix4f matrix) {
+        // 주요 요소들이 finite한지 확인
+        return Float.isFinite(matrix.m00()) && Float.isFinite(matrix.m11()) &&
+                Float.isFinite(matrix.m22()) && Float.isFinite(matrix.m33());
+    }
+}
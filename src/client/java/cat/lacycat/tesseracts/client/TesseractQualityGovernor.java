@@ -0,0 +1,125 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.TesseractBlockEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 프레임 시간 예산에 맞춰 테서랙트 품질을 조절하는 피드백 제어기.
+ *
+ * 블록 엔티티 렌더러, 아이템 렌더러, 일괄 렌더러, 블록 엔티티의 파티클 생성에 쓴 시간을 프레임마다 합산하고,
+ * 지수 이동 평균이 예산을 넘으면 곧바로 품질 단계를 낮추고 (몇 프레임 간격), 충분히 여유 있는 상태가 오래 이어질 때만 한 단계씩 올립니다.
+ * 품질 단계는 튜브 세그먼트 수, 파티클 밀도, 애니메이션 최대 거리 (정적 모델로 바뀌는 거리) 를 정합니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractQualityGovernor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+
+    public static final int MAX_LEVEL = 4;
+
+    // 단계별 설정 (인덱스 = 품질 단계, 낮을수록 가벼움)
+    private static final int[] FULL_SEGMENTS = {3, 4, 5, 6, TesseractBlockEntityRenderer.CYLINDER_SEGMENTS};
+    private static final int[] REDUCED_SEGMENTS = {3, 3, 3, 4, 8};
+    private static final float[] PARTICLE_DENSITY = {0.0f, 0.15f, 0.35f, 0.6f, 1.0f};
+    private static final float[] ANIMATED_DISTANCE_SCALE = {0.25f, 0.35f, 0.5f, 0.75f, 1.0f};
+
+    // 평균의 반응 속도와 단계를 바꾼 뒤 측정이 반영될 때까지 기다리는 프레임 수
+    private static final double SMOOTHING = 0.2;
+    private static final int BACKOFF_FRAMES = 5;
+    // 평균이 예산의 이 비율 아래로 이만큼 이어져야 한 단계 올림
+    private static final double RECOVER_RATIO = 0.6;
+    private static final int RECOVER_FRAMES = 180;
+
+    private static int level = MAX_LEVEL;
+    private static double averageNanos = 0.0;
+    private static long frameNanos = 0;
+    private static int framesSinceChange = 0;
+    private static int calmFrames = 0;
+
+    private TesseractQualityGovernor() {
+    }
+
+    /**
+     * 측정 구간에서 쓴 시간을 이번 프레임에 더합니다.
+     */
+    public static void addNanos(long nanos) {
+        frameNanos += nanos;
+    }
+
+    /**
+     * 프레임 시작 시 한 번 호출됩니다 (GameRenderer.render). 지난 프레임의 시간으로 품질 단계를 갱신합니다.
+     */
+    public static void onFrame() {
+        long cost = frameNanos + TesseractBlockEntity.drainParticleNanos();
+        frameNanos = 0;
+
+        if (!TesseractRenderConfig.governorEnabled) {
+            setLevel(MAX_LEVEL);
+            return;
+        }
+
+        averageNanos += (cost - averageNanos) * SMOOTHING;
+        framesSinceChange++;
+
+        double budgetNanos = TesseractRenderConfig.governorBudgetMs * 1_000_000.0;
+        if (averageNanos > budgetNanos) {
+            calmFrames = 0;
+            // 빠르게 후퇴 - 측정이 반영될 시간만 두고 계속 낮춤
+            if (level > 0 && framesSinceChange >= BACKOFF_FRAMES) {
+                setLevel(level - 1);
+            }
+        } else if (averageNanos < budgetNanos * RECOVER_RATIO) {
+            // 천천히 회복 - 여유가 오래 이어질 때만 한 단계씩
+            if (++calmFrames >= RECOVER_FRAMES && level < MAX_LEVEL) {
+                calmFrames = 0;
+                setLevel(level + 1);
+            }
+        } else {
+            calmFrames = 0;
+        }
+    }
+
+    /**
+     * 현재 품질 단계 (0 = 가장 가벼움, MAX_LEVEL = 설정 그대로).
+     */
+    public static int getQualityLevel() {
+        return level;
+    }
+
+    /**
+     * 최근 프레임들의 테서랙트 렌더링 + 파티클 평균 시간 (밀리초).
+     */
+    public static double getAverageMillis() {
+        return averageNanos / 1_000_000.0;
+    }
+
+    /**
+     * 가까운 (FULL) 단계 튜브의 세그먼트 수.
+     */
+    public static int getFullSegments() {
+        return FULL_SEGMENTS[level];
+    }
+
+    /**
+     * 중간 (REDUCED) 단계 튜브의 세그먼트 수 (설정값 이하).
+     */
+    public static int getReducedSegments() {
+        return Math.min(TesseractRenderConfig.lodReducedSegments, REDUCED_SEGMENTS[level]);
+    }
+
+    /**
+     * 애니메이션으로 그리는 최대 거리 - 이보다 멀면 정적 모델로 구움 (블록).
+     */
+    public static double getAnimatedDistance() {
+        return Math.max(8.0, TesseractRenderConfig.bakedFallbackDistance * ANIMATED_DISTANCE_SCALE[level]);
+    }
+
+    private static void setLevel(int newLevel) {
+        if (newLevel == level) return;
+
+        LOGGER.debug("Tesseract quality level {} -> {} (average {} ms, budget {} ms)",
+                level, newLevel, String.format("%.3f", getAverageMillis()), TesseractRenderConfig.governorBudgetMs);
+        level = newLevel;
+        framesSinceChange = 0;
+        TesseractBlockEntity.setParticleDensity(PARTICLE_DENSITY[newLevel]);
+    }
+}
@@ -0,0 +1,261 @@
+package cat.lacycat.tesseracts.client;
+
+import net.fabricmc.loader.api.FabricLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * 테서랙트 렌더링 설정. config/tesseracts-render.properties 에서 읽고, 파일이 없으면 기본값으로 만듭니다.
+ * 값들은 렌더 스레드에서 매 프레임 읽히므로 단순한 static 필드로 둡니다.
+ */
+public final class TesseractRenderConfig {
+    private static final Logger LOGGER = LoggerFactory.getLogger("tesseracts");
+    private static final String FILE_NAME = "tesseracts-render.properties";
+
+    /**
+     * 4D 회전 계산 방식.
+     */
+    public enum RotationEngine {
+        // 평면 회전 매트릭스 6개를 매번 곱하는 기존 방식
+        MATRIX,
+        // 왼쪽/오른쪽 쿼터니언 쌍을 점진적으로 갱신하는 방식
+        ISOCLINIC
+    }
+
+    /**
+     * 투영된 정점을 얻는 방식.
+     */
+    public enum GeometrySource {
+        // 매 프레임 4D 회전과 투영을 계산
+        COMPUTED,
+        // 한 주기 분량의 키프레임을 미리 계산해 두고 보간
+        KEYFRAMES
+    }
+
+    /**
+     * 블록 테서랙트를 그리는 경로.
+     */
+    public enum RenderPath {
+        // CPU에서 계산한 튜브를 VertexConsumer로 출력
+        IMMEDIATE,
+        // 단위 튜브 메시 + 인스턴스 데이터, 4D 계산은 셰이더에서
+        INSTANCED,
+        // IMMEDIATE와 같은 출력이지만 블록별 디스패치 없이 월드 렌더 이벤트에서 한 번에
+        BATCHED
+    }
+
+    public static RotationEngine rotationEngine = RotationEngine.ISOCLINIC;
+
+    public static RenderPath renderPath = RenderPath.IMMEDIATE;
+
+    // 거리별 LOD: 가까이는 전체 원기둥, 중간은 세그먼트를 줄인 원기둥, 멀리는 선, 차단 거리 밖은 그리지 않음 (단위: 블록)
+    public static boolean lodEnabled = true;
+    public static int lodReducedDistance = 16;
+    public static int lodReducedSegments = 4;
+    public static int lodLinesDistance = 32;
+    public static int lodCutoffDistance = 64;
+    // 단계 경계에서 이만큼 더 벗어나야 단계를 바꿈 (경계에서 깜빡임 방지)
+    public static int lodHysteresis = 2;
+
+    // 시간 LOD: 이 거리마다 고리를 나눠 먼 고리의 튜브는 2 / 4 / 8 프레임마다 갱신하고 그 사이에는 복사만 함 (카메라가 멈춰 있을 때)
+    public static boolean temporalLod = true;
+    public static int temporalLodDistance = 8;
+
+    // 선 LOD 단계를 버킷별 아틀라스 타일을 쓰는 임포스터 사각형으로 그림 (타일 크기 픽셀, 아틀라스 갱신 횟수 / 초)
+    public static boolean impostors = true;
+    public static int impostorSize = 64;
+    public static int impostorFps = 20;
+
+    // GUI 슬롯의 테서랙트 아이템을 캐시 텍스처 하나로 찍음 (텍스처 크기 픽셀, 갱신 횟수 / 초)
+    public static boolean itemAtlas = true;
+    public static int itemAtlasSize = 64;
+    public static int itemAtlasFps = 20;
+
+    // 이 거리 밖의 테서랙트는 애니메이션 대신 청크 메시의 정적 모델로 그림 (차단 거리 이하)
+    public static boolean bakedFallbackEnabled = true;
+    public static int bakedFallbackDistance = 48;
+
+    // 보이는 테서랙트가 이 수 이상이면 튜브 정점을 월드 렌더 시작 시 작업 스레드들에서 미리 계산 (0이면 스레드 수 자동)
+    public static boolean parallelPrecompute = true;
+    public static int parallelMinBlocks = 32;
+    public static int parallelThreads = 0;
+
+    // 맞닿은 테서랙트들을 클러스터 단위로 한 번에 그림 (같은 위상 버킷의 튜브는 한 번만 만들고 복사)
+    public static boolean clusterRendering = true;
+
+    // 같은 네트워크의 테서랙트들을 잇는 연결 빔 (신장 트리, 거리별로 띠 / 선, 차단 거리는 LOD와 같음)
+    public static boolean linkBeams = true;
+
+    // 블록 테서랙트 튜브를 반투명으로 그리고 4D w 깊이에 따라 흐리게 함 (CPU 출력 경로만)
+    public static boolean translucentEdges = false;
+
+    // 프레임당 테서랙트 렌더링 + 파티클 시간 예산 (밀리초) - 넘으면 품질 단계를 낮춤
+    public static boolean governorEnabled = true;
+    public static double governorBudgetMs = 2.0;
+
+    // 기하 계산의 방어적 검사를 다시 켜고 처음 실패를 자세히 로그에 남김 (/tesseracts debug-validation 으로도 바꿈)
+    public static boolean debugValidation = false;
+
+    public static GeometrySource geometrySource = GeometrySource.KEYFRAMES;
+
+    // 한 주기당 키프레임 수 (정점만: 키프레임당 192바이트, 튜브 포함: 블록 약 6KB / 아이템 약 4.5KB)
+    public static int keyframeCount = 512;
+
+    // 튜브 링 데이터도 키프레임 표에서 바로 샘플링할지 여부 (버킷마다 한 번 만들어 같은 버킷의 블록이 공유)
+    public static boolean keyframeTubes = false;
+
+    // 4D 투영에 벡터 API(SIMD) 커널 사용 - JVM을 --add-modules jdk.incubator.vector 로 실행했을 때만 적용되고 아니면 스칼라
+    public static boolean simdProjection = true;
+
+    // 블록 테서랙트의 애니메이션 위상 버킷 수 (1이면 모두 같은 위상으로 회전)
+    // 4D 계산은 프레임당 버킷 하나에 한 번이므로 블록 수와 관계없이 비용이 제한됩니다
+    public static int phaseBuckets = 16;
+
+    private TesseractRenderConfig() {
+    }
+
+    public static void load() {
+        Path path = FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME);
+        Properties properties = new Properties();
+
+        if (Files.exists(path)) {
+            try (Reader reader = Files.newBufferedReader(path)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to read {}, using defaults", path, e);
+            }
+        }
+
+        rotationEngine = readEnum(properties, "rotation-engine", RotationEngine.class, rotationEngine);
+        phaseBuckets = readInt(properties, "phase-buckets", phaseBuckets, 1, 256);
+        geometrySource = readEnum(properties, "geometry-source", GeometrySource.class, geometrySource);
+        keyframeCount = readInt(properties, "keyframe-count", keyframeCount, 16, 8192);
+        keyframeTubes = readBoolean(properties, "keyframe-tubes", keyframeTubes);
+        simdProjection = readBoolean(properties, "simd-projection", simdProjection);
+        renderPath = readEnum(properties, "render-path", RenderPath.class, renderPath);
+        lodEnabled = readBoolean(properties, "lod-enabled", lodEnabled);
+        lodReducedDistance = readInt(properties, "lod-reduced-distance", lodReducedDistance, 1, 512);
+        lodReducedSegments = readInt(properties, "lod-reduced-segments", lodReducedSegments, 3, 8);
+        lodLinesDistance = readInt(properties, "lod-lines-distance", lodLinesDistance, lodReducedDistance, 512);
+        lodCutoffDistance = readInt(properties, "lod-cutoff-distance", lodCutoffDistance, lodLinesDistance, 512);
+        lodHysteresis = readInt(properties, "lod-hysteresis", lodHysteresis, 0, 16);
+        temporalLod = readBoolean(properties, "temporal-lod", temporalLod);
+        temporalLodDistance = readInt(properties, "temporal-lod-distance", temporalLodDistance, 2, 128);
+        impostors = readBoolean(properties, "impostors", impostors);
+        impostorSize = readInt(properties, "impostor-size", impostorSize, 16, 256);
+        impostorFps = readInt(properties, "impostor-fps", impostorFps, 1, 60);
+        itemAtlas = readBoolean(properties, "item-atlas", itemAtlas);
+        itemAtlasSize = readInt(properties, "item-atlas-size", itemAtlasSize, 16, 256);
+        itemAtlasFps = readInt(properties, "item-atlas-fps", itemAtlasFps, 1, 60);
+        bakedFallbackEnabled = readBoolean(properties, "baked-fallback-enabled", bakedFallbackEnabled);
+        bakedFallbackDistance = readInt(properties, "baked-fallback-distance", bakedFallbackDistance, 8, lodCutoffDistance);
+        parallelPrecompute = readBoolean(properties, "parallel-precompute", parallelPrecompute);
+        parallelMinBlocks = readInt(properties, "parallel-min-blocks", parallelMinBlocks, 1, 4096);
+        parallelThreads = readInt(properties, "parallel-threads", parallelThreads, 0, 64);
+        clusterRendering = readBoolean(properties, "cluster-rendering", clusterRendering);
+        linkBeams = readBoolean(properties, "link-beams", linkBeams);
+        translucentEdges = readBoolean(properties, "translucent-edges", translucentEdges);
+        governorEnabled = readBoolean(properties, "governor-enabled", governorEnabled);
+        governorBudgetMs = readDouble(properties, "governor-budget-ms", governorBudgetMs, 0.1, 50.0);
+        debugValidation = readBoolean(properties, "debug-validation", debugValidation);
+
+        if (!Files.exists(path)) {
+            save(path);
+        }
+    }
+
+    private static void save(Path path) {
+        Properties properties = new Properties();
+        properties.setProperty("rotation-engine", rotationEngine.name().toLowerCase(Locale.ROOT));
+        properties.setProperty("phase-buckets", Integer.toString(phaseBuckets));
+        properties.setProperty("geometry-source", geometrySource.name().toLowerCase(Locale.ROOT));
+        properties.setProperty("keyframe-count", Integer.toString(keyframeCount));
+        properties.setProperty("keyframe-tubes", Boolean.toString(keyframeTubes));
+        properties.setProperty("simd-projection", Boolean.toString(simdProjection));
+        properties.setProperty("render-path", renderPath.name().toLowerCase(Locale.ROOT));
+        properties.setProperty("lod-enabled", Boolean.toString(lodEnabled));
+        properties.setProperty("lod-reduced-distance", Integer.toString(lodReducedDistance));
+        properties.setProperty("lod-reduced-segments", Integer.toString(lodReducedSegments));
+        properties.setProperty("lod-lines-distance", Integer.toString(lodLinesDistance));
+        properties.setProperty("lod-cutoff-distance", Integer.toString(lodCutoffDistance));
+        properties.setProperty("lod-hysteresis", Integer.toString(lodHysteresis));
+        properties.setProperty("temporal-lod", Boolean.toString(temporalLod));
+        properties.setProperty("temporal-lod-distance", Integer.toString(temporalLodDistance));
+        properties.setProperty("impostors", Boolean.toString(impostors));
+        properties.setProperty("impostor-size", Integer.toString(impostorSize));
+        properties.setProperty("impostor-fps", Integer.toString(impostorFps));
+        properties.setProperty("item-atlas", Boolean.toString(itemAtlas));
+        properties.setProperty("item-atlas-size", Integer.toString(itemAtlasSize));
+        properties.setProperty("item-atlas-fps", Integer.toString(itemAtlasFps));
+        properties.setProperty("baked-fallback-enabled", Boolean.toString(bakedFallbackEnabled));
+        properties.setProperty("baked-fallback-distance", Integer.toString(bakedFallbackDistance));
+        properties.setProperty("parallel-precompute", Boolean.toString(parallelPrecompute));
+        properties.setProperty("parallel-min-blocks", Integer.toString(parallelMinBlocks));
+        properties.setProperty("parallel-threads", Integer.toString(parallelThreads));
+        properties.setProperty("cluster-rendering", Boolean.toString(clusterRendering));
+        properties.setProperty("link-beams", Boolean.toString(linkBeams));
+        properties.setProperty("translucent-edges", Boolean.toString(translucentEdges));
+        properties.setProperty("governor-enabled", Boolean.toString(governorEnabled));
+        properties.setProperty("governor-budget-ms", Double.toString(governorBudgetMs));
+        properties.setProperty("debug-validation", Boolean.toString(debugValidation));
+
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "Tesseracts render settings");
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write {}", path, e);
+        }
+    }
+
+    private static int readInt(Properties properties, String key, int fallback, int min, int max) {
+        String value = properties.getProperty(key);
+        if (value == null) return fallback;
+
+        try {
+            return Math.max(min, Math.min(max, Integer.parseInt(value.trim())));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid number '{}' for {}, using {}", value, key, fallback);
+            return fallback;
+        }
+    }
+
+    private static double readDouble(Properties properties, String key, double fallback, double min, double max) {
+        String value = properties.getProperty(key);
+        if (value == null) return fallback;
+
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            if (!Double.isFinite(parsed)) throw new NumberFormatException(value);
+            return Math.max(min, Math.min(max, parsed));
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Invalid number '{}' for {}, using {}", value, key, fallback);
+            return fallback;
+        }
+    }
+
+    private static boolean readBoolean(Properties properties, String key, boolean fallback) {
+        String value = properties.getProperty(key);
+        if (value == null) return fallback;
+
+        return Boolean.parseBoolean(value.trim());
+    }
+
+    private static <E extends Enum<E>> E readEnum(Properties properties, String key, Class<E> type, E fallback) {
+        String value = properties.getProperty(key);
+        if (value == null) return fallback;
+
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown value '{}' for {}, using {}", value, key, fallback);
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package cat.lacycat.tesseracts.client;
+
+import cat.lacycat.tesseracts.TesseractMod;
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.fabricmc.fabric.api.client.rendering.v1.CoreShaderRegistrationCallback;
+import net.minecraft.client.gl.ShaderProgram;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.Identifier;
+
+import java.io.IOException;
+
+/**
+ * 테서랙트 전용 렌더 레이어. RenderLayer의 protected 렌더 단계들을 쓰기 위해 상속합니다.
+ */
+public class TesseractRenderLayers extends RenderLayer {
+
+    public static final Identifier WIREFRAME_SHADER_ID = new Identifier(TesseractMod.MOD_ID, "tesseract_wireframe");
+
+    private static ShaderProgram wireframeShader;
+
+    /**
+     * 와이어프레임 튜브 레이어: 위치 + 색상만 (정점당 16바이트, solid 레이어의 절반), 텍스처/라이트맵 없음.
+     * 테서랙트는 항상 최대 밝기이고 셰이더가 법선을 쓰지 않으므로 나머지 요소는 모두 뺐습니다.
+     * 엔티티 버퍼 저장소에 전용 버퍼가 등록되므로 (BufferBuilderStorageMixin) 한 프레임의 모든 테서랙트가 한 번에 그려집니다.
+     */
+    public static final RenderLayer WIREFRAME = of(
+            "tesseract_wireframe",
+            VertexFormats.POSITION_COLOR,
+            VertexFormat.DrawMode.QUADS,
+            262144,
+            false,
+            false,
+            MultiPhaseParameters.builder()
+                    .program(new ShaderProgram(() -> wireframeShader))
+                    .transparency(NO_TRANSPARENCY)
+                    .build(false));
+
+    /**
+     * 반투명 와이어프레임 레이어: WIREFRAME과 같은 형식에 반투명 혼합, 깊이 쓰기 없음.
+     * 바닐라의 쿼드 단위 정렬은 끄고 (translucent = false), 렌더러가 블록마다 모서리를 뒤에서 앞 순서로 출력합니다.
+     */
+    public static final RenderLayer WIREFRAME_TRANSLUCENT = of(
+            "tesseract_wireframe_translucent",
+            VertexFormats.POSITION_COLOR,
+            VertexFormat.DrawMode.QUADS,
+            262144,
+            false,
+            false,
+            MultiPhaseParameters.builder()
+                    .program(new ShaderProgram(() -> wireframeShader))
+                    .transparency(TRANSLUCENT_TRANSPARENCY)
+                    .writeMaskState(COLOR_MASK)
+                    .build(false));
+
+    /**
+     * 임포스터 레이어: 위치 + 색상 + 텍스처, 텍스처는 TesseractImpostors의 아틀라스.
+     * 아틀라스의 빈 곳은 알파가 0이라 셰이더가 버리므로 불투명 레이어로 그리고 깊이도 씁니다.
+     */
+    public static final RenderLayer IMPOSTOR = of(
+            "tesseract_impostor",
+            VertexFormats.POSITION_COLOR_TEXTURE,
+            VertexFormat.DrawMode.QUADS,
+            65536,
+            false,
+            false,
+            MultiPhaseParameters.builder()
+                    .program(POSITION_COLOR_TEXTURE_PROGRAM)
+                    .texture(new TextureBase(() -> RenderSystem.setShaderTexture(0, TesseractImpostors.getTextureId()), () -> {}))
+                    .transparency(NO_TRANSPARENCY)
+                    .build(false));
+
+    /**
+     * GUI 아이템 캐시 레이어: 임포스터 레이어와 같고 텍스처만 TesseractItemAtlas의 캐시 텍스처.
+     */
+    public static final RenderLayer ITEM_ATLAS = of(
+            "tesseract_item_atlas",
+            VertexFormats.POSITION_COLOR_TEXTURE,
+            VertexFormat.DrawMode.QUADS,
+            1024,
+            false,
+            false,
+            MultiPhaseParameters.builder()
+                    .program(POSITION_COLOR_TEXTURE_PROGRAM)
+                    .texture(new TextureBase(() -> RenderSystem.setShaderTexture(0, TesseractItemAtlas.getTextureId()), () -> {}))
+                    .transparency(NO_TRANSPARENCY)
+                    .build(false));
+
+    private TesseractRenderLayers(String name, VertexFormat vertexFormat, VertexFormat.DrawMode drawMode, int expectedBufferSize,
+                                  boolean hasCrumbling, boolean translucent, Runnable startAction, Runnable endAction) {
+        super(name, vertexFormat, drawMode, expectedBufferSize, hasCrumbling, translucent, startAction, endAction);
+    }
+
+    public static void registerShaders(CoreShaderRegistrationCallback.RegistrationContext context) throws IOException {
+        context.register(WIREFRAME_SHADER_ID, VertexFormats.POSITION_COLOR, program -> wireframeShader = program);
+    }
+}
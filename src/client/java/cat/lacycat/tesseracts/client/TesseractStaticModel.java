@@ -0,0 +1,123 @@
+package cat.lacycat.tesseracts.client;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.joml.Vector3f;
+
+/**
+ * 기준 자세에서 고정된 테서랙트 와이어프레임 블록 모델. 데이터 생성 때 JSON 블록 모델로 구워지고,
+ * 먼 거리에서는 청크 메시로 그려집니다 (TesseractBakedFallback 참고).
+ *
+ * JSON 모델 요소는 축 정렬 상자뿐이므로 축에 평행한 모서리는 상자 하나로, 비스듬한 모서리는 작은 상자들을 이어서 만듭니다.
+ * 모서리 색은 tintindex = 모서리 번호로 넣고 블록 색상 제공자가 애니메이션과 같은 색을 돌려줍니다.
+ */
+public final class TesseractStaticModel {
+
+    // 기준 자세의 애니메이션 시간 (0이면 모든 회전이 0이라 큐브 안의 큐브 모양)
+    public static final float REFERENCE_TIME = 0.0f;
+
+    private static final String TEXTURE = "minecraft:block/white_concrete";
+
+    private static final String[] FACES = {"down", "up", "north", "south", "west", "east"};
+
+    private TesseractStaticModel() {
+    }
+
+    /**
+     * 기준 자세의 블록 모델 JSON을 만듭니다 (데이터 생성용).
+     */
+    public static JsonObject createModelJson() {
+        Vector3f[] vertices = new Vector3f[TesseractProjector.BLOCK.getVertexCount()];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = new Vector3f();
+        }
+        TesseractProjector.BLOCK.computeKeyframe(REFERENCE_TIME, vertices);
+
+        // 모델 좌표는 0..16, 블록 중심은 8
+        float radius = TesseractBlockEntityRenderer.CYLINDER_RADIUS * 16.0f;
+        JsonArray elements = new JsonArray();
+
+        for (int edgeIndex = 0; edgeIndex < TesseractProjector.TESSERACT_EDGES.length; edgeIndex++) {
+            int[] edge = TesseractProjector.TESSERACT_EDGES[edgeIndex];
+            Vector3f start = new Vector3f(vertices[edge[0]]).mul(16.0f).add(8.0f, 8.0f, 8.0f);
+            Vector3f end = new Vector3f(vertices[edge[1]]).mul(16.0f).add(8.0f, 8.0f, 8.0f);
+            Vector3f delta = new Vector3f(end).sub(start);
+
+            int movingAxes = (Math.abs(delta.x) > 1.0e-4f ? 1 : 0)
+                    + (Math.abs(delta.y) > 1.0e-4f ? 1 : 0)
+                    + (Math.abs(delta.z) > 1.0e-4f ? 1 : 0);
+
+            if (movingAxes <= 1) {
+                // 축에 평행한 모서리: 상자 하나
+                elements.add(createElement(
+                        Math.min(start.x, end.x) - radius, Math.min(start.y, end.y) - radius, Math.min(start.z, end.z) - radius,
+                        Math.max(start.x, end.x) + radius, Math.max(start.y, end.y) + radius, Math.max(start.z, end.z) + radius,
+                        edgeIndex));
+            } else {
+                // 비스듬한 모서리: 두께만 한 상자들을 모서리를 따라 이어 붙임
+                int beads = Math.max(1, (int) Math.ceil(delta.length() / (2.0f * radius)));
+                for (int i = 0; i < beads; i++) {
+                    float t = (i + 0.5f) / beads;
+                    float x = start.x + delta.x * t;
+                    float y = start.y + delta.y * t;
+                    float z = start.z + delta.z * t;
+                    elements.add(createElement(x - radius, y - radius, z - radius,
+                            x + radius, y + radius, z + radius, edgeIndex));
+                }
+            }
+        }
+
+        JsonObject textures = new JsonObject();
+        textures.addProperty("edge", TEXTURE);
+        textures.addProperty("particle", TEXTURE);
+
+        JsonObject model = new JsonObject();
+        model.addProperty("ambientocclusion", false);
+        model.add("textures", textures);
+        model.add("elements", elements);
+        return model;
+    }
+
+    /**
+     * 기준 자세에서 모서리의 색 (TesseractBlockEntityRenderer와 같은 계산, 0xRRGGBB).
+     */
+    public static int getEdgeColor(int edgeIndex) {
+        float time = REFERENCE_TIME;
+        float colorVariation = edgeIndex * 0.1f;
+        float r = Math.max(0.4f, Math.min(1.0f, 0.6f + 0.3f * (float) Math.sin(time) + colorVariation));
+        float g = Math.max(0.4f, Math.min(1.0f, 0.6f + 0.3f * (float) Math.cos(time * 1.1f) + colorVariation));
+        float b = Math.max(0.4f, Math.min(1.0f, 0.6f + 0.3f * (float) Math.sin(time * 0.9f) + colorVariation));
+        return ((int) (r * 255.0f) << 16) | ((int) (g * 255.0f) << 8) | (int) (b * 255.0f);
+    }
+
+    private static JsonObject createElement(float fromX, float fromY, float fromZ,
+                                            float toX, float toY, float toZ, int tintIndex) {
+        JsonObject element = new JsonObject();
+        element.add("from", toArray(fromX, fromY, fromZ));
+        element.add("to", toArray(toX, toY, toZ));
+        element.addProperty("shade", false);
+
+        JsonObject faces = new JsonObject();
+        for (String face : FACES) {
+            JsonObject faceJson = new JsonObject();
+            faceJson.addProperty("texture", "#edge");
+            faceJson.addProperty("tintindex", tintIndex);
+            faces.add(face, faceJson);
+        }
+        element.add("faces", faces);
+        return element;
+    }
+
+    private static JsonArray toArray(float x, float y, float z) {
+        JsonArray array = new JsonArray();
+        array.add(round(x));
+        array.add(round(y));
+        array.add(round(z));
+        return array;
+    }
+
+    // JSON을 읽기 좋게 소수점 넷째 자리까지만
+    private static float round(float value) {
+        return Math.round(value * 10000.0f) / 10000.0f;
+    }
+}
@@ -0,0 +1,255 @@
+package cat.lacycat.tesseracts.client;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
+import net.minecraft.client.gl.ShaderProgram;
+import net.minecraft.client.gl.VertexBuffer;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.VertexFormat;
+import net.minecraft.client.render.VertexFormats;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import org.joml.Matrix4f;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 거리에 따른 시간 LOD. 가까운 테서랙트는 매 프레임 튜브를 새로 만들고, 먼 고리의 블록은 마지막에 만든 튜브를
+ * 2 / 4 / 8 프레임 동안 다시 그리기만 합니다 (그동안 애니메이션은 멈춰 보임).
+ *
+ * 갱신 시점은 블록 위치로 정한 위상만큼 어긋나 있어서 같은 고리의 블록들이 한 프레임에 몰려 갱신되지 않습니다.
+ * 스트림은 뷰와 빌보드 회전을 적용하기 전의 블록 로컬 정점을 VertexBuffer에 올려 둔 것이라서 카메라가 움직여도 다시 쓸 수 있고
+ * (빌보드 각도도 애니메이션처럼 갱신 창 동안 멈춤), 렌더러는 블록 매트릭스만 기록합니다.
+ * 기록된 스트림은 render()가 현재 매트릭스로 스트림마다 드로우 호출 한 번씩 그립니다. 렌더 스레드 전용입니다.
+ */
+public final class TesseractTemporalLod {
+
+    // 가장 긴 갱신 간격 (위상은 이 범위에서 고름)
+    private static final int MAX_INTERVAL = 8;
+
+    // 블록 위치(BlockPos.asLong) -> 마지막으로 만든 스트림
+    private static final Long2ObjectOpenHashMap<Stream> streams = new Long2ObjectOpenHashMap<>();
+
+    // 이번 프레임에 그릴 스트림과 블록 매트릭스
+    private static Stream[] queuedStreams = new Stream[64];
+    private static Matrix4f[] queuedMatrices = new Matrix4f[64];
+    private static int queuedCount = 0;
+    private static long queuedFrame = -1;
+
+    private static final Matrix4f drawMatrix = new Matrix4f();
+
+    // 스트림을 VertexBuffer에 올릴 때 쓰는 빌더 (Tessellator 버퍼와 겹치지 않게 따로 둠)
+    private static BufferBuilder uploadBuilder;
+
+    private TesseractTemporalLod() {
+    }
+
+    /**
+     * 카메라 거리 제곱에 따른 갱신 간격 (프레임). 고리 폭마다 1, 2, 4, 8 입니다.
+     */
+    public static int getInterval(double distanceSq) {
+        if (!TesseractRenderConfig.temporalLod) return 1;
+
+        double ring = TesseractRenderConfig.temporalLodDistance;
+        double ringSq = ring * ring;
+        if (distanceSq < ringSq) return 1;
+        if (distanceSq < 4 * ringSq) return 2;
+        if (distanceSq < 9 * ringSq) return 4;
+        return MAX_INTERVAL;
+    }
+
+    /**
+     * 이 블록의 스트림을 찾습니다. 매 프레임 갱신하는 거리이면 null (있던 스트림은 버림).
+     * 돌려받은 스트림이 isCurrent()이면 draw()로 기록만 하고, 아니면 새로 만들어서 upload() 합니다.
+     *
+     * @param segments 이번 프레임에 쓸 튜브 세그먼트 수
+     */
+    public static Stream lookup(BlockPos pos, double distanceSq, int segments) {
+        long key = pos.asLong();
+        int interval = getInterval(distanceSq);
+        if (interval == 1) {
+            if (!streams.isEmpty()) {
+                Stream removed = streams.remove(key);
+                if (removed != null) removed.close();
+            }
+            return null;
+        }
+
+        Stream stream = streams.get(key);
+        if (stream == null) {
+            stream = new Stream(getPhase(pos));
+            streams.put(key, stream);
+        }
+        stream.prepare(interval, segments);
+        return stream;
+    }
+
+    public static void forget(BlockPos pos) {
+        Stream removed = streams.remove(pos.asLong());
+        if (removed != null) removed.close();
+    }
+
+    /**
+     * 모든 스트림의 GPU 버퍼를 해제합니다 (월드를 나갈 때).
+     */
+    public static void clear() {
+        for (Stream stream : streams.values()) {
+            stream.close();
+        }
+        streams.clear();
+        Arrays.fill(queuedStreams, 0, queuedCount, null);
+        queuedCount = 0;
+    }
+
+    /**
+     * 이번 프레임에 기록된 스트림들을 현재 매트릭스로 그립니다 (블록 엔티티 렌더링 이후 월드 렌더 이벤트).
+     */
+    public static void render(WorldRenderContext context) {
+        if (queuedCount == 0) return;
+        if (queuedFrame != TesseractAnimationClock.getFrame()) {
+            // 지난 프레임에 그려지지 않은 기록은 버림
+            Arrays.fill(queuedStreams, 0, queuedCount, null);
+            queuedCount = 0;
+            return;
+        }
+
+        TesseractRenderLayers.WIREFRAME.startDrawing();
+        try {
+            ShaderProgram program = RenderSystem.getShader();
+            if (program == null) return;
+
+            Matrix4f modelView = RenderSystem.getModelViewMatrix();
+            Matrix4f projection = RenderSystem.getProjectionMatrix();
+            for (int i = 0; i < queuedCount; i++) {
+                VertexBuffer buffer = queuedStreams[i].buffer;
+                if (buffer == null || queuedStreams[i].vertexCount <= 0) continue;
+
+                drawMatrix.set(modelView).mul(queuedMatrices[i]);
+                buffer.bind();
+                buffer.draw(drawMatrix, projection, program);
+            }
+            VertexBuffer.unbind();
+        } finally {
+            TesseractRenderLayers.WIREFRAME.endDrawing();
+            Arrays.fill(queuedStreams, 0, queuedCount, null);
+            queuedCount = 0;
+        }
+    }
+
+    // 스트림 하나를 이번 프레임에 그리도록 기록 (매트릭스는 복사해 둠)
+    private static void queue(Stream stream, Matrix4f entryMatrix) {
+        long frame = TesseractAnimationClock.getFrame();
+        if (frame != queuedFrame) {
+            Arrays.fill(queuedStreams, 0, queuedCount, null);
+            queuedCount = 0;
+            queuedFrame = frame;
+        }
+
+        if (queuedCount == queuedStreams.length) {
+            queuedStreams = Arrays.copyOf(queuedStreams, queuedCount * 2);
+            queuedMatrices = Arrays.copyOf(queuedMatrices, queuedCount * 2);
+        }
+        Matrix4f matrix = queuedMatrices[queuedCount];
+        if (matrix == null) {
+            matrix = new Matrix4f();
+            queuedMatrices[queuedCount] = matrix;
+        }
+        matrix.set(entryMatrix);
+        queuedStreams[queuedCount++] = stream;
+    }
+
+    private static BufferBuilder getUploadBuilder() {
+        if (uploadBuilder == null) {
+            uploadBuilder = new BufferBuilder(TesseractProjector.TESSERACT_EDGES.length
+                    * 4 * TesseractBlockEntityRenderer.CYLINDER_SEGMENTS * CylinderTubeEmitter.VERTEX_SIZE);
+        }
+        return uploadBuilder;
+    }
+
+    // 블록마다 고정된 갱신 위상 (0 ~ MAX_INTERVAL - 1)
+    private static int getPhase(BlockPos pos) {
+        long hash = MathHelper.hashCode(pos.getX(), pos.getY(), pos.getZ());
+        return (int) ((hash ^ (hash >>> 32)) & (MAX_INTERVAL - 1));
+    }
+
+    /**
+     * 블록 하나의 튜브 스트림 (WIREFRAME 형식, 블록 로컬 공간, GPU 버퍼). lookup()이 이번 프레임의 조건을 기록합니다.
+     */
+    public static final class Stream {
+        private final int phase;
+
+        // 스트림을 만들 때의 조건 (갱신 창, 세그먼트 수)
+        private long window = Long.MIN_VALUE;
+        private int interval;
+        private int segments = -1;
+
+        // 이번 프레임의 조건
+        private long pendingWindow;
+        private int pendingInterval;
+        private int pendingSegments;
+
+        private VertexBuffer buffer;
+        private int vertexCount = -1;
+
+        private Stream(int phase) {
+            this.phase = phase;
+        }
+
+        private void prepare(int interval, int segments) {
+            pendingWindow = Math.floorDiv(TesseractAnimationClock.getFrame() + phase, interval);
+            pendingInterval = interval;
+            pendingSegments = segments;
+        }
+
+        /**
+         * 같은 갱신 창 안이고 세그먼트 수가 만들 때와 같아서 그대로 다시 써도 되는지.
+         */
+        public boolean isCurrent() {
+            return vertexCount >= 0
+                    && window == pendingWindow
+                    && interval == pendingInterval
+                    && segments == pendingSegments;
+        }
+
+        /**
+         * 블록 로컬 매트릭스로 writeEdges()/writeEdgeRings()가 만든 정점을 VertexBuffer에 올리고
+         * 이번 갱신 창의 스트림으로 기록합니다.
+         */
+        public void upload(CylinderTubeEmitter emitter, ByteBuffer source, int vertexCount) {
+            BufferBuilder builder = getUploadBuilder();
+            builder.begin(VertexFormat.DrawMode.QUADS, VertexFormats.POSITION_COLOR);
+            emitter.emitPrecomputed(builder, source, vertexCount);
+
+            if (buffer == null) {
+                buffer = new VertexBuffer(VertexBuffer.Usage.DYNAMIC);
+            }
+            buffer.bind();
+            buffer.upload(builder.end());
+            VertexBuffer.unbind();
+
+            this.vertexCount = vertexCount;
+            window = pendingWindow;
+            interval = pendingInterval;
+            segments = pendingSegments;
+        }
+
+        /**
+         * 이번 프레임에 블록 매트릭스 entryMatrix로 그리도록 기록합니다 (render()에서 그림).
+         */
+        public void draw(Matrix4f entryMatrix) {
+            if (vertexCount > 0) {
+                queue(this, entryMatrix);
+            }
+        }
+
+        private void close() {
+            if (buffer != null) {
+                buffer.close();
+                buffer = null;
+            }
+            vertexCount = -1;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package cat.lacycat.tesseracts.client.mixin;
+
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.VertexFormat;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+import java.nio.ByteBuffer;
+
+// 튜브 정점을 요소별 메서드 체인 없이 버퍼에 바로 쓰기 위한 내부 상태 (CylinderTubeEmitter 참고)
+@Mixin(BufferBuilder.class)
+public interface BufferBuilderAccessor {
+
+    @Accessor("buffer")
+    ByteBuffer tesseracts$getBuffer();
+
+    @Accessor("elementOffset")
+    int tesseracts$getElementOffset();
+
+    @Accessor("elementOffset")
+    void tesseracts$setElementOffset(int elementOffset);
+
+    @Accessor("vertexCount")
+    int tesseracts$getVertexCount();
+
+    @Accessor("vertexCount")
+    void tesseracts$setVertexCount(int vertexCount);
+
+    @Accessor("currentElementId")
+    int tesseracts$getCurrentElementId();
+
+    @Accessor("format")
+    VertexFormat tesseracts$getFormat();
+
+    @Accessor("drawMode")
+    VertexFormat.DrawMode tesseracts$getDrawMode();
+
+    @Accessor("building")
+    boolean tesseracts$isBuilding();
+
+    @Invoker("grow")
+    void tesseracts$invokeGrow(int size);
+}
@@ -0,0 +1,39 @@
+package cat.lacycat.tesseracts.client.mixin;
+
+import cat.lacycat.tesseracts.client.TesseractRenderLayers;
+import net.minecraft.client.render.BufferBuilder;
+import net.minecraft.client.render.BufferBuilderStorage;
+import net.minecraft.client.render.RenderLayer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.SortedMap;
+
+@Mixin(BufferBuilderStorage.class)
+public class BufferBuilderStorageMixin {
+
+    @Shadow
+    @Final
+    private SortedMap<RenderLayer, BufferBuilder> entityBuilders;
+
+    // 테서랙트 레이어에 전용 버퍼를 줘서 다른 블록 엔티티 사이에 끼어도 레이어 전환마다 그려지지 않게 함
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void tesseracts$addWireframeBuffers(CallbackInfo ci) {
+        RenderLayer layer = TesseractRenderLayers.WIREFRAME;
+        entityBuilders.put(layer, new BufferBuilder(layer.getExpectedBufferSize()));
+
+        RenderLayer impostor = TesseractRenderLayers.IMPOSTOR;
+        entityBuilders.put(impostor, new BufferBuilder(impostor.getExpectedBufferSize()));
+
+        RenderLayer itemAtlas = TesseractRenderLayers.ITEM_ATLAS;
+        entityBuilders.put(itemAtlas, new BufferBuilder(itemAtlas.getExpectedBufferSize()));
+
+        // 반투명 레이어는 불투명 레이어들 뒤에 그려지도록 나중에 넣음
+        RenderLayer translucent = TesseractRenderLayers.WIREFRAME_TRANSLUCENT;
+        entityBuilders.put(translucent, new BufferBuilder(translucent.getExpectedBufferSize()));
+    }
+}
@@ -0,0 +1,13 @@
+package cat.lacycat.tesseracts.client.mixin;
+
+import net.minecraft.client.render.Frustum;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+// Box를 만들지 않고 좌표로 바로 절두체 검사 (블록 엔티티마다 매 프레임 호출됨)
+@Mixin(Frustum.class)
+public interface FrustumInvoker {
+
+    @Invoker("isVisible")
+    boolean tesseracts$isVisible(double minX, double minY, double minZ, double maxX, double maxY, double maxZ);
+}
@@ -0,0 +1,20 @@
+package cat.lacycat.tesseracts.client.mixin;
+
+import cat.lacycat.tesseracts.client.TesseractAnimationClock;
+import cat.lacycat.tesseracts.client.TesseractQualityGovernor;
+import net.minecraft.client.render.GameRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(GameRenderer.class)
+public class GameRendererMixin {
+
+    // 프레임마다 애니메이션 시계를 한 번만 샘플링하고, 지난 프레임의 측정 시간으로 품질 단계를 갱신
+    @Inject(method = "render", at = @At("HEAD"))
+    private void tesseracts$beginFrame(float tickDelta, long startTime, boolean tick, CallbackInfo ci) {
+        TesseractAnimationClock.beginFrame(tickDelta);
+        TesseractQualityGovernor.onFrame();
+    }
+}
@@ -0,0 +1,21 @@
+package cat.lacycat.tesseracts.client.mixin;
+
+import net.minecraft.client.gl.VertexBuffer;
+import net.minecraft.client.render.VertexFormat;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+// 인스턴스 드로우 호출에 필요한 인덱스 정보 (VertexBuffer.draw()는 인스턴싱을 지원하지 않음)
+@Mixin(VertexBuffer.class)
+public interface VertexBufferAccessor {
+
+    @Accessor("indexCount")
+    int tesseracts$getIndexCount();
+
+    @Accessor("drawMode")
+    VertexFormat.DrawMode tesseracts$getDrawMode();
+
+    @Invoker("getIndexType")
+    VertexFormat.IndexType tesseracts$invokeGetIndexType();
+}
@@ -0,0 +1,125 @@
+package cat.lacycat.tesseracts.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스칼라 투영 커널과 벡터 투영 커널의 비교. 매트릭스 수는 위상 버킷 (64) 과 키프레임 표 (512),
+ * 정점 수는 테서랙트 (16) 와 120-cell (600) 입니다. 투영 매개변수는 블록 투영기와 같습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ProjectionKernelBenchmark {
+
+    private static final float W_OFFSET = 2.5f;
+    private static final float PROJECTION_SCALE = 0.4f;
+    private static final float LIMIT = 2.0f;
+
+    @Param({"64", "512"})
+    public int matrixCount;
+
+    @Param({"16", "600"})
+    public int vertexCount;
+
+    private final TesseractProjectionKernel scalar = ScalarProjectionKernel.INSTANCE;
+    private final TesseractProjectionKernel vector = new VectorProjectionKernel();
+
+    private float[] matrices;
+    private float[] vx, vy, vz, vw;
+    private float[] outX, outY, outZ;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+
+        // 여섯 평면 회전의 곱 = 직교 매트릭스 (투영기와 같은 열 우선 순서)
+        matrices = new float[matrixCount * 16];
+        for (int m = 0; m < matrixCount; m++) {
+            float[] rotation = identity();
+            for (int a = 0; a < 4; a++) {
+                for (int b = a + 1; b < 4; b++) {
+                    rotatePlane(rotation, a, b, random.nextFloat() * 6.2831855f);
+                }
+            }
+            System.arraycopy(rotation, 0, matrices, m * 16, 16);
+        }
+
+        // 블록 테서랙트의 정점 범위 (±0.5)
+        vx = new float[vertexCount];
+        vy = new float[vertexCount];
+        vz = new float[vertexCount];
+        vw = new float[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            vx[i] = random.nextFloat() - 0.5f;
+            vy[i] = random.nextFloat() - 0.5f;
+            vz[i] = random.nextFloat() - 0.5f;
+            vw[i] = random.nextFloat() - 0.5f;
+        }
+
+        outX = new float[matrixCount * vertexCount];
+        outY = new float[matrixCount * vertexCount];
+        outZ = new float[matrixCount * vertexCount];
+    }
+
+    @Benchmark
+    public float[] scalarProject() {
+        scalar.project(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                W_OFFSET, PROJECTION_SCALE, LIMIT, outX, outY, outZ);
+        return outX;
+    }
+
+    @Benchmark
+    public float[] vectorProject() {
+        vector.project(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                W_OFFSET, PROJECTION_SCALE, LIMIT, outX, outY, outZ);
+        return outX;
+    }
+
+    @Benchmark
+    public float[] scalarProjectTrusted() {
+        scalar.projectTrusted(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                W_OFFSET, PROJECTION_SCALE, outX, outY, outZ);
+        return outX;
+    }
+
+    @Benchmark
+    public float[] vectorProjectTrusted() {
+        vector.projectTrusted(matrices, matrixCount, vx, vy, vz, vw, vertexCount,
+                W_OFFSET, PROJECTION_SCALE, outX, outY, outZ);
+        return outX;
+    }
+
+    private static float[] identity() {
+        float[] matrix = new float[16];
+        matrix[0] = matrix[5] = matrix[10] = matrix[15] = 1.0f;
+        return matrix;
+    }
+
+    // 열 a, b를 각도만큼 섞음 (a-b 평면 회전을 오른쪽에서 곱함)
+    private static void rotatePlane(float[] matrix, int a, int b, float angle) {
+        float cos = (float) Math.cos(angle);
+        float sin = (float) Math.sin(angle);
+        for (int row = 0; row < 4; row++) {
+            float ma = matrix[a * 4 + row];
+            float mb = matrix[b * 4 + row];
+            matrix[a * 4 + row] = ma * cos + mb * sin;
+            matrix[b * 4 + row] = mb * cos - ma * sin;
+        }
+    }
+}
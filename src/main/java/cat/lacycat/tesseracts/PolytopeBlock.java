@@ -0,0 +1,38 @@
+package cat.lacycat.tesseracts;
+
+import net.minecraft.block.*;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.util.shape.VoxelShapes;
+import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.Nullable;
+
+public class PolytopeBlock extends BlockWithEntity {
+    private final PolytopeShape shape;
+
+    public PolytopeBlock(PolytopeShape shape, Settings settings) {
+        super(settings);
+        this.shape = shape;
+    }
+
+    public PolytopeShape getShape() {
+        return shape;
+    }
+
+    @Override
+    public BlockRenderType getRenderType(BlockState state) {
+        // 청크 메시 모델 없이 블록 엔티티 렌더러만 그림
+        return BlockRenderType.ENTITYBLOCK_ANIMATED;
+    }
+
+    @Override
+    public @Nullable BlockEntity createBlockEntity(BlockPos pos, BlockState state) {
+        return new PolytopeBlockEntity(pos, state);
+    }
+
+    @Override
+    public VoxelShape getCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+        return VoxelShapes.empty(); // 통과 가능
+    }
+}
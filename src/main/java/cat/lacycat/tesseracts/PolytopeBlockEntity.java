@@ -0,0 +1,19 @@
+package cat.lacycat.tesseracts;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+
+public class PolytopeBlockEntity extends BlockEntity {
+
+    public PolytopeBlockEntity(BlockPos pos, BlockState state) {
+        super(TesseractMod.POLYTOPE_BLOCK_ENTITY, pos, state);
+    }
+
+    /**
+     * 이 블록 엔티티가 그리는 다포체 모양.
+     */
+    public PolytopeShape getShape() {
+        return ((PolytopeBlock) getCachedState().getBlock()).getShape();
+    }
+}
@@ -0,0 +1,30 @@
+package cat.lacycat.tesseracts;
+
+/**
+ * 테서랙트 외의 정칙 4차원 다포체 블록들의 모양.
+ */
+public enum PolytopeShape {
+    // 정오포체 (정점 5, 모서리 10)
+    FIVE_CELL("five_cell"),
+    // 정십육포체 (정점 8, 모서리 24)
+    SIXTEEN_CELL("sixteen_cell"),
+    // 정이십사포체 (정점 24, 모서리 96)
+    TWENTY_FOUR_CELL("twenty_four_cell"),
+    // 정육백포체 (정점 120, 모서리 720)
+    SIX_HUNDRED_CELL("six_hundred_cell"),
+    // 정백이십포체 (정점 600, 모서리 1200)
+    HUNDRED_TWENTY_CELL("hundred_twenty_cell");
+
+    private final String name;
+
+    PolytopeShape(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 블록/아이템 ID에 쓰는 이름 (예: five_cell).
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -18,7 +18,8 @@ public class TesseractBlock extends BlockWithEntity {
 
     @Override
     public BlockRenderType getRenderType(BlockState state) {
-        return BlockRenderType.ENTITYBLOCK_ANIMATED;
+        // 먼 거리용 정적 모델을 청크 메시에 포함 (가까울 때는 모델이 비고 블록 엔티티 렌더러가 애니메이션)
+        return BlockRenderType.MODEL;
     }
 
     @Override
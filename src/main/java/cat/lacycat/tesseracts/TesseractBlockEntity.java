@@ -16,6 +16,11 @@ public class TesseractBlockEntity extends BlockEntity {
     private final Random random = new Random();
     private int particleTimer = 0;
 
+    // 파티클 밀도 (0 ~ 1) - 클라이언트의 품질 조절기가 프레임 시간 예산에 맞춰 정함
+    private static float particleDensity = 1.0f;
+    // 파티클 생성에 쓴 누적 시간 (나노초, 클라이언트 스레드 전용)
+    private static long particleNanos = 0;
+
     public TesseractBlockEntity(BlockPos pos, BlockState state) {
         super(TesseractMod.TESSERACT_BLOCK_ENTITY, pos, state);
     }
@@ -28,11 +33,15 @@ public class TesseractBlockEntity extends BlockEntity {
             }
 
             blockEntity.particleTimer++;
+            long start = System.nanoTime();
             blockEntity.spawnParticleEffects(world, pos);
+            particleNanos += System.nanoTime() - start;
         }
     }
 
     private void spawnParticleEffects(World world, BlockPos pos) {
+        if (particleDensity <= 0.0f) return;
+
         double centerX = pos.getX() + 0.5;
         double centerY = pos.getY() + 0.5;
         double centerZ = pos.getZ() + 0.5;
@@ -58,7 +67,8 @@ public class TesseractBlockEntity extends BlockEntity {
     }
 
     private void spawnDimensionalCrackParticles(World world, double centerX, double centerY, double centerZ) {
-        for (int i = 0; i < 3; i++) {
+        int crackCount = scaleParticleCount(3);
+        for (int i = 0; i < crackCount; i++) {
             // 균열 모양의 선형 파티클
             double angle = random.nextDouble() * Math.PI * 2;
             double length = 0.5 + random.nextDouble() * 1.5;
@@ -85,7 +95,8 @@ public class TesseractBlockEntity extends BlockEntity {
         Vector3f color = hsvToRgb(hue, 0.8f, 1.0f);
 
         // 나선형 오로라 효과
-        for (int i = 0; i < 8; i++) {
+        int spiralCount = scaleParticleCount(8);
+        for (int i = 0; i < spiralCount; i++) {
             double spiralAngle = rotationTime + (i * Math.PI / 4);
             double radius = 1.2 + Math.sin(rotationTime * 2 + i) * 0.3;
             double height = Math.sin(rotationTime * 1.5 + i) * 1.5;
@@ -113,7 +124,7 @@ public class TesseractBlockEntity extends BlockEntity {
 
         // 강도는 거리에 반비례
         double intensity = Math.max(0.1, 1.0 - (distance / 25.0));
-        int particleCount = (int)(intensity * 15);
+        int particleCount = scaleParticleCount((int)(intensity * 15));
 
         for (int i = 0; i < particleCount; i++) {
             // 플레이어 방향으로 에너지 파장 생성
@@ -134,8 +145,9 @@ public class TesseractBlockEntity extends BlockEntity {
         // 추가로 링 형태의 에너지 파동
         if (particleTimer % 10 == 0) {
             double ringRadius = 0.8 + Math.sin(rotationTime * 3) * 0.2;
-            for (int i = 0; i < 12; i++) {
-                double ringAngle = (i / 12.0) * Math.PI * 2;
+            int ringCount = scaleParticleCount(12);
+            for (int i = 0; i < ringCount; i++) {
+                double ringAngle = (i / (double) ringCount) * Math.PI * 2;
                 double x = centerX + Math.cos(ringAngle) * ringRadius;
                 double y = centerY + Math.sin(rotationTime * 2) * 0.3;
                 double z = centerZ + Math.sin(ringAngle) * ringRadius;
@@ -147,6 +159,28 @@ public class TesseractBlockEntity extends BlockEntity {
         }
     }
 
+    // 파티클 수에 밀도를 곱함 - 소수 부분은 확률적으로 반올림해서 평균 밀도를 맞춤
+    private int scaleParticleCount(int count) {
+        if (particleDensity >= 1.0f) return count;
+        return (int) (count * particleDensity + random.nextFloat());
+    }
+
+    /**
+     * 파티클 밀도를 정합니다 (0이면 파티클 없음, 1이면 전부).
+     */
+    public static void setParticleDensity(float density) {
+        particleDensity = Math.max(0.0f, Math.min(1.0f, density));
+    }
+
+    /**
+     * 지난 호출 이후 파티클 생성에 쓴 시간(나노초)을 돌려주고 0으로 되돌립니다.
+     */
+    public static long drainParticleNanos() {
+        long nanos = particleNanos;
+        particleNanos = 0;
+        return nanos;
+    }
+
     // HSV to RGB 변환 함수
     private Vector3f hsvToRgb(float h, float s, float v) {
         float c = v * s;
@@ -41,6 +41,51 @@ public class TesseractMod implements ModInitializer {
             new BlockItem(TESSERACT_BLOCK, new FabricItemSettings())
     );
 
+    // 다른 정칙 4차원 다포체 블록들 (모두 같은 블록 엔티티 타입을 씀)
+    public static final PolytopeBlock FIVE_CELL_BLOCK = registerPolytopeBlock(PolytopeShape.FIVE_CELL);
+    public static final PolytopeBlock SIXTEEN_CELL_BLOCK = registerPolytopeBlock(PolytopeShape.SIXTEEN_CELL);
+    public static final PolytopeBlock TWENTY_FOUR_CELL_BLOCK = registerPolytopeBlock(PolytopeShape.TWENTY_FOUR_CELL);
+    public static final PolytopeBlock SIX_HUNDRED_CELL_BLOCK = registerPolytopeBlock(PolytopeShape.SIX_HUNDRED_CELL);
+    public static final PolytopeBlock HUNDRED_TWENTY_CELL_BLOCK = registerPolytopeBlock(PolytopeShape.HUNDRED_TWENTY_CELL);
+
+    public static final PolytopeBlock[] POLYTOPE_BLOCKS = {
+            FIVE_CELL_BLOCK, SIXTEEN_CELL_BLOCK, TWENTY_FOUR_CELL_BLOCK, SIX_HUNDRED_CELL_BLOCK, HUNDRED_TWENTY_CELL_BLOCK
+    };
+
+    public static final BlockEntityType<PolytopeBlockEntity> POLYTOPE_BLOCK_ENTITY = Registry.register(
+            Registries.BLOCK_ENTITY_TYPE,
+            new Identifier(MOD_ID, "polytope_block_entity"),
+            FabricBlockEntityTypeBuilder.create(PolytopeBlockEntity::new, POLYTOPE_BLOCKS).build()
+    );
+
+    // POLYTOPE_BLOCKS와 같은 순서의 블록 아이템들
+    public static final Item[] POLYTOPE_ITEMS = registerPolytopeItems();
+
+    private static Item[] registerPolytopeItems() {
+        Item[] items = new Item[POLYTOPE_BLOCKS.length];
+        for (int i = 0; i < items.length; i++) {
+            PolytopeBlock block = POLYTOPE_BLOCKS[i];
+            items[i] = Registry.register(
+                    Registries.ITEM,
+                    new Identifier(MOD_ID, block.getShape().getName() + "_block"),
+                    new BlockItem(block, new FabricItemSettings())
+            );
+        }
+        return items;
+    }
+
+    private static PolytopeBlock registerPolytopeBlock(PolytopeShape shape) {
+        return Registry.register(
+                Registries.BLOCK,
+                new Identifier(MOD_ID, shape.getName() + "_block"),
+                new PolytopeBlock(shape, FabricBlockSettings.copyOf(Blocks.GLASS)
+                        .strength(2.0f, 6.0f)
+                        .sounds(BlockSoundGroup.GLASS)
+                        .luminance(15)
+                        .nonOpaque())
+        );
+    }
+
     @Override
     public void onInitialize() {
         System.out.println("4D Tesseract Mod initialized!");
@@ -0,0 +1,99 @@
+package cat.lacycat.tesseracts.client;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * jdk.incubator.vector 투영 커널. 매트릭스 원소를 브로드캐스트하고 정점 여러 개를 한 레인씩 맡아 계산합니다.
+ * 인큐베이터 모듈이 부트 레이어에 있을 때만 리플렉션으로 만들어지므로 (TesseractProjectionKernels 참고)
+ * 다른 클래스에서 직접 참조하면 안 됩니다.
+ */
+final class VectorProjectionKernel implements TesseractProjectionKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    VectorProjectionKernel() {
+    }
+
+    @Override
+    public void project(float[] matrices, int matrixCount, float[] vx, float[] vy, float[] vz, float[] vw, int vertexCount,
+                        float wOffset, float projectionScale, float limit, float[] outX, float[] outY, float[] outZ) {
+        int bound = SPECIES.loopBound(vertexCount);
+
+        for (int m = 0; m < matrixCount; m++) {
+            int mo = m * 16;
+            int outOffset = m * vertexCount;
+            float m00 = matrices[mo], m01 = matrices[mo + 1], m02 = matrices[mo + 2], m03 = matrices[mo + 3];
+            float m10 = matrices[mo + 4], m11 = matrices[mo + 5], m12 = matrices[mo + 6], m13 = matrices[mo + 7];
+            float m20 = matrices[mo + 8], m21 = matrices[mo + 9], m22 = matrices[mo + 10], m23 = matrices[mo + 11];
+            float m30 = matrices[mo + 12], m31 = matrices[mo + 13], m32 = matrices[mo + 14], m33 = matrices[mo + 15];
+
+            for (int i = 0; i < bound; i += SPECIES.length()) {
+                FloatVector x = FloatVector.fromArray(SPECIES, vx, i);
+                FloatVector y = FloatVector.fromArray(SPECIES, vy, i);
+                FloatVector z = FloatVector.fromArray(SPECIES, vz, i);
+                FloatVector w = FloatVector.fromArray(SPECIES, vw, i);
+
+                FloatVector tx = x.mul(m00).add(y.mul(m10)).add(z.mul(m20)).add(w.mul(m30));
+                FloatVector ty = x.mul(m01).add(y.mul(m11)).add(z.mul(m21)).add(w.mul(m31));
+                FloatVector tz = x.mul(m02).add(y.mul(m12)).add(z.mul(m22)).add(w.mul(m32));
+                FloatVector tw = x.mul(m03).add(y.mul(m13)).add(z.mul(m23)).add(w.mul(m33));
+
+                FloatVector scale = FloatVector.broadcast(SPECIES, projectionScale)
+                        .div(tw.add(wOffset).abs().max(0.5f));
+                scale = scale.blend(projectionScale, scale.test(VectorOperators.IS_FINITE).not());
+
+                tx.mul(scale).max(-limit).min(limit).intoArray(outX, outOffset + i);
+                ty.mul(scale).max(-limit).min(limit).intoArray(outY, outOffset + i);
+                tz.mul(scale).max(-limit).min(limit).intoArray(outZ, outOffset + i);
+            }
+
+            // 레인 수로 나누어떨어지지 않는 나머지 정점
+            if (bound < vertexCount) {
+                ScalarProjectionKernel.projectRange(matrices, mo, vx, vy, vz, vw, bound, vertexCount,
+                        wOffset, projectionScale, limit, outX, outY, outZ, outOffset);
+            }
+        }
+    }
+
+    @Override
+    public void projectTrusted(float[] matrices, int matrixCount, float[] vx, float[] vy, float[] vz, float[] vw,
+                               int vertexCount, float wOffset, float projectionScale,
+                               float[] outX, float[] outY, float[] outZ) {
+        int bound = SPECIES.loopBound(vertexCount);
+
+        for (int m = 0; m < matrixCount; m++) {
+            int mo = m * 16;
+            int outOffset = m * vertexCount;
+            float m00 = matrices[mo], m01 = matrices[mo + 1], m02 = matrices[mo + 2], m03 = matrices[mo + 3];
+            float m10 = matrices[mo + 4], m11 = matrices[mo + 5], m12 = matrices[mo + 6], m13 = matrices[mo + 7];
+            float m20 = matrices[mo + 8], m21 = matrices[mo + 9], m22 = matrices[mo + 10], m23 = matrices[mo + 11];
+            float m30 = matrices[mo + 12], m31 = matrices[mo + 13], m32 = matrices[mo + 14], m33 = matrices[mo + 15];
+
+            for (int i = 0; i < bound; i += SPECIES.length()) {
+                FloatVector x = FloatVector.fromArray(SPECIES, vx, i);
+                FloatVector y = FloatVector.fromArray(SPECIES, vy, i);
+                FloatVector z = FloatVector.fromArray(SPECIES, vz, i);
+                FloatVector w = FloatVector.fromArray(SPECIES, vw, i);
+
+                FloatVector tw = x.mul(m03).add(y.mul(m13)).add(z.mul(m23)).add(w.mul(m33));
+                FloatVector scale = FloatVector.broadcast(SPECIES, projectionScale).div(tw.add(wOffset));
+
+                x.mul(m00).add(y.mul(m10)).add(z.mul(m20)).add(w.mul(m30)).mul(scale).intoArray(outX, outOffset + i);
+                x.mul(m01).add(y.mul(m11)).add(z.mul(m21)).add(w.mul(m31)).mul(scale).intoArray(outY, outOffset + i);
+                x.mul(m02).add(y.mul(m12)).add(z.mul(m22)).add(w.mul(m32)).mul(scale).intoArray(outZ, outOffset + i);
+            }
+
+            if (bound < vertexCount) {
+                ScalarProjectionKernel.projectRangeTrusted(matrices, mo, vx, vy, vz, vw, bound, vertexCount,
+                        wOffset, projectionScale, outX, outY, outZ, outOffset);
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "vector (" + SPECIES.vectorBitSize() + "-bit, " + SPECIES.length() + " lanes)";
+    }
+}